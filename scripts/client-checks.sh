@@ -0,0 +1,58 @@
+# Shared by native-smoke.sh and crac-harness.sh: exercises every /v1/clients endpoint against
+# http://localhost:$PORT and counts failures in $failures. Source it, then call client_checks.
+ADMIN=${ADMIN:-admin:admin}
+
+# Random CPF with valid check digits, so reruns never collide with existing rows
+cpf() {
+    local d=() i sum r
+    for i in 0 1 2 3 4 5 6 7 8; do d[i]=$((RANDOM % 10)); done
+    for r in 9 10; do
+        sum=0
+        for ((i = 0; i < r; i++)); do sum=$((sum + d[i] * (r + 1 - i))); done
+        sum=$((sum * 10 % 11))
+        d[r]=$((sum == 10 ? 0 : sum))
+    done
+    printf '%s' "${d[@]}"
+}
+
+failures=0
+check() {
+    local expected=$1 label=$2
+    shift 2
+    local status
+    status=$(curl -s -o /dev/null -w '%{http_code}' "$@")
+    if [ "$status" = "$expected" ]; then
+        echo "ok   $label ($status)"
+    else
+        echo "FAIL $label (expected $expected, got $status)"
+        failures=$((failures + 1))
+    fi
+}
+
+client_checks() {
+    local base="http://localhost:$PORT/v1/clients" first second
+    first=$(cpf)
+    second=$(cpf)
+    json() { printf '{"cpf":"%s","name":"%s","email":"smoke@example.com","phone":"11999999999"}' "$1" "$2"; }
+
+    check 200 "POST   /v1/clients" -X POST -H 'Content-Type: application/json' -d "$(json "$first" Smoke)" "$base"
+    check 200 "GET    /v1/clients/{cpf}" "$base/$first"
+    check 200 "PUT    /v1/clients/{cpf}" -X PUT -H 'Content-Type: application/json' -d "$(json "$first" Updated)" "$base/$first"
+    check 200 "POST   /v1/clients/batch" -X POST -H 'Content-Type: application/json' \
+        -d "[$(json "$first" Batch),$(json "$second" Batch)]" "$base/batch"
+    check 200 "GET    /v1/clients" "$base?size=5"
+    check 200 "GET    /v1/clients/export" "$base/export"
+    check 400 "POST   /v1/clients (invalid)" -X POST -H 'Content-Type: application/json' -d "$(json 123 Invalid)" "$base"
+    check 204 "DELETE /v1/clients/{cpf}" -X DELETE -u "$ADMIN" "$base/$first"
+    check 204 "DELETE /v1/clients/{cpf}" -X DELETE -u "$ADMIN" "$base/$second"
+}
+
+# Polls /health/readiness (database reachable) until it answers 200 or the process $1 exits
+wait_for_readiness() {
+    until curl -sf -o /dev/null "http://localhost:$PORT/health/readiness"; do
+        if ! kill -0 "$1" 2>/dev/null; then
+            return 1
+        fi
+        sleep 0.05
+    done
+}
@@ -0,0 +1,44 @@
+#!/usr/bin/env bash
+# Runs the same load against the app with platform threads and with the
+# "virtual" profile, both capped at 500m CPU like k8s/prd/deployment.yaml.
+# Needs root to create the cgroup; set CPU_QUOTA_US/CPU_PERIOD_US to change the cap.
+set -euo pipefail
+
+JAR=${JAR:-target/app-users.jar}
+JAVA=${JAVA:-java}
+PROFILES=${PROFILES:-local}
+BASE_URL=${BASE_URL:-http://localhost:8080}
+CONCURRENCY=${CONCURRENCY:-400}
+DURATION=${DURATION:-60}
+WARMUP=${WARMUP:-20}
+CPU_QUOTA_US=${CPU_QUOTA_US:-50000}
+CPU_PERIOD_US=${CPU_PERIOD_US:-100000}
+CGROUP_NAME=food-bench
+
+if [ -f /sys/fs/cgroup/cgroup.controllers ]; then
+    CGROUP=/sys/fs/cgroup/$CGROUP_NAME
+    mkdir -p "$CGROUP"
+    echo "$CPU_QUOTA_US $CPU_PERIOD_US" > "$CGROUP/cpu.max"
+else
+    CGROUP=/sys/fs/cgroup/cpu/$CGROUP_NAME
+    mkdir -p "$CGROUP"
+    echo "$CPU_PERIOD_US" > "$CGROUP/cpu.cfs_period_us"
+    echo "$CPU_QUOTA_US" > "$CGROUP/cpu.cfs_quota_us"
+fi
+
+run() {
+    local mode=$1 profiles=$2
+    echo "== $mode threads (profiles: $profiles)"
+    # Cache disabled so every request reaches the database.
+    CLIENT_CACHE_MAXIMUM_SIZE=0 sh -c "echo \$\$ > $CGROUP/cgroup.procs; exec $JAVA -Xmx256m -jar $JAR --spring.profiles.active=$profiles --spring.jpa.show-sql=false" \
+        > "target/compare-$mode.log" 2>&1 &
+    local pid=$!
+    until curl -sf "$BASE_URL/health/readiness" > /dev/null; do sleep 1; done
+    $JAVA scripts/loadtest/LoadTest.java "$BASE_URL" "$CONCURRENCY" "$DURATION" "$WARMUP"
+    curl -s "$BASE_URL/actuator/metrics/food.db.gate.wait" 2>/dev/null | grep -o '"statistic":"MAX","value":[0-9.E-]*' || true
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+}
+
+run platform "$PROFILES"
+run virtual "$PROFILES,virtual"
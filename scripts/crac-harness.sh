@@ -0,0 +1,46 @@
+#!/usr/bin/env bash
+# Checkpoint/restore round trip on a CRaC-enabled JDK (e.g. Azul Zulu with CRaC, needs CRIU privileges):
+#   1. starts the jar with the `crac` profile, which warms up and checkpoints itself into $CHECKPOINT_DIR
+#   2. restores from the checkpoint and measures restore-to-ready (first 200 on /health/readiness)
+#   3. exercises every /v1/clients endpoint on the restored process
+# The restore time is appended to target/startup-times.csv with the label crac-restore.
+set -euo pipefail
+
+JAVA=${JAVA:-java}
+JAR=${JAR:-target/app-users.jar}
+PORT=${PORT:-8080}
+CHECKPOINT_DIR=${CHECKPOINT_DIR:-target/crac}
+PROFILES=${PROFILES:-local,crac}
+RESULTS=${RESULTS:-target/startup-times.csv}
+
+source "$(dirname "$0")/client-checks.sh"
+
+rm -rf "$CHECKPOINT_DIR"
+echo "Checkpointing into $CHECKPOINT_DIR"
+start=$(date +%s%N)
+# The JVM exits once the image is dumped, so a non-zero status is expected here
+$JAVA -XX:CRaCCheckpointTo="$CHECKPOINT_DIR" -jar "$JAR" --server.port="$PORT" \
+    --spring.profiles.active="$PROFILES" > target/crac-checkpoint.log 2>&1 || true
+if [ -z "$(ls -A "$CHECKPOINT_DIR" 2>/dev/null)" ]; then
+    echo "No checkpoint was written, see target/crac-checkpoint.log" >&2
+    exit 1
+fi
+echo "checkpoint (startup + warm-up + dump): $(( ($(date +%s%N) - start) / 1000000 )) ms"
+
+start=$(date +%s%N)
+$JAVA -XX:CRaCRestoreFrom="$CHECKPOINT_DIR" > target/crac-restore.log 2>&1 &
+pid=$!
+trap 'kill $pid 2>/dev/null && wait $pid 2>/dev/null || true' EXIT
+
+if ! wait_for_readiness "$pid"; then
+    echo "Restored process exited before /health/readiness answered, see target/crac-restore.log" >&2
+    exit 1
+fi
+restore=$(( ($(date +%s%N) - start) / 1000000 ))
+
+client_checks
+
+[ -f "$RESULTS" ] || echo "timestamp,label,time_to_first_health_ms" > "$RESULTS"
+echo "$(date -u +%Y-%m-%dT%H:%M:%SZ),crac-restore,$restore" >> "$RESULTS"
+echo "restore to first /health/readiness: ${restore} ms"
+[ "$failures" -eq 0 ]
@@ -0,0 +1,125 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Closed-loop load generator for GET /v1/clients/{cpf}.
+ * Usage: java LoadTest.java [baseUrl] [concurrency] [durationSeconds] [warmupSeconds] [cpfCount]
+ */
+public class LoadTest {
+
+    private static final Pattern CPF = Pattern.compile("\"cpf\":\"(\\d+)\"");
+    private static final Pattern CURSOR = Pattern.compile("\"nextCursor\":\"([^\"]+)\"");
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int duration = args.length > 2 ? Integer.parseInt(args[2]) : 60;
+        int warmup = args.length > 3 ? Integer.parseInt(args[3]) : 15;
+        int cpfCount = args.length > 4 ? Integer.parseInt(args[4]) : 20_000;
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        String[] cpfs = loadCpfs(client, baseUrl, cpfCount);
+
+        run(client, baseUrl, cpfs, concurrency, warmup);
+        Result result = run(client, baseUrl, cpfs, concurrency, duration);
+
+        long[] latencies = result.latencies();
+        Arrays.sort(latencies);
+        System.out.printf("concurrency=%d duration=%ds requests=%d errors=%d%n",
+                concurrency, duration, latencies.length, result.errors());
+        System.out.printf("throughput=%.1f req/s p50=%.1fms p95=%.1fms p99=%.1fms max=%.1fms%n",
+                latencies.length / (double) duration,
+                percentile(latencies, 0.50), percentile(latencies, 0.95),
+                percentile(latencies, 0.99), percentile(latencies, 1.0));
+    }
+
+    private static String[] loadCpfs(HttpClient client, String baseUrl, int count) throws Exception {
+        List<String> cpfs = new ArrayList<>(count);
+        String cursor = null;
+        while (cpfs.size() < count) {
+            String url = baseUrl + "/v1/clients?size=500" + (cursor == null ? "" : "&cursor=" + cursor);
+            String body = client.send(HttpRequest.newBuilder(URI.create(url)).build(),
+                    HttpResponse.BodyHandlers.ofString()).body();
+            Matcher matcher = CPF.matcher(body);
+            while (matcher.find() && cpfs.size() < count) {
+                cpfs.add(matcher.group(1));
+            }
+            Matcher next = CURSOR.matcher(body);
+            if (!next.find()) {
+                break;
+            }
+            cursor = next.group(1);
+        }
+        return cpfs.toArray(String[]::new);
+    }
+
+    private static Result run(HttpClient client, String baseUrl, String[] cpfs, int concurrency, int seconds) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        List<long[]> perWorker = new ArrayList<>();
+        List<int[]> counts = new ArrayList<>();
+        AtomicLong errors = new AtomicLong();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                long[] latencies = new long[1 << 16];
+                int[] count = new int[1];
+                perWorker.add(latencies);
+                counts.add(count);
+                workers.submit(() -> worker(client, baseUrl, cpfs, deadline, latencies, count, errors));
+            }
+        }
+        int total = counts.stream().mapToInt(c -> c[0]).sum();
+        long[] all = new long[total];
+        int offset = 0;
+        for (int i = 0; i < perWorker.size(); i++) {
+            System.arraycopy(perWorker.get(i), 0, all, offset, counts.get(i)[0]);
+            offset += counts.get(i)[0];
+        }
+        return new Result(all, errors.get());
+    }
+
+    private static void worker(HttpClient client, String baseUrl, String[] cpfs, long deadline,
+                               long[] latencies, int[] count, AtomicLong errors) {
+        while (System.nanoTime() < deadline && count[0] < latencies.length) {
+            String cpf = cpfs[ThreadLocalRandom.current().nextInt(cpfs.length)];
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/v1/clients/" + cpf))
+                    .timeout(Duration.ofSeconds(60))
+                    .build();
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() != 200) {
+                    errors.incrementAndGet();
+                }
+            } catch (Exception e) {
+                errors.incrementAndGet();
+            }
+            latencies[count[0]++] = System.nanoTime() - start;
+        }
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+    }
+
+    private record Result(long[] latencies, long errors) {
+    }
+}
@@ -0,0 +1,82 @@
+-- Compares CPF stored as VARCHAR(14) against BIGINT: unique index size and
+-- point-lookup latency. Builds two scratch tables with the same rows so
+-- tb_client is left untouched. Usage: psql -d food_oders_db -f scripts/measure-cpf-storage.sql
+-- Set the row count below (default 1,000,000).
+
+DROP TABLE IF EXISTS bench_cpf_text;
+DROP TABLE IF EXISTS bench_cpf_bigint;
+DROP TABLE IF EXISTS bench_cpf_result;
+
+CREATE TABLE bench_cpf_text (
+    id VARCHAR(36) PRIMARY KEY,
+    cpf VARCHAR(14) NOT NULL,
+    CONSTRAINT bench_cpf_text_cpf UNIQUE (cpf)
+);
+
+CREATE TABLE bench_cpf_bigint (
+    id VARCHAR(36) PRIMARY KEY,
+    cpf BIGINT NOT NULL,
+    CONSTRAINT bench_cpf_bigint_cpf UNIQUE (cpf)
+);
+
+INSERT INTO bench_cpf_text (id, cpf)
+SELECT gen_random_uuid()::text, lpad((n::bigint * 99991 % 99999999999)::text, 11, '0')
+FROM generate_series(1, 1000000) AS n;
+
+INSERT INTO bench_cpf_bigint (id, cpf)
+SELECT id, cpf::bigint FROM bench_cpf_text;
+
+VACUUM ANALYZE bench_cpf_text;
+VACUUM ANALYZE bench_cpf_bigint;
+
+CREATE TABLE bench_cpf_result (storage TEXT, lookups INT, total_ms NUMERIC, us_per_lookup NUMERIC);
+
+DO $$
+DECLARE
+    lookups CONSTANT INT := 200000;
+    keys BIGINT[];
+    text_keys TEXT[];
+    found_id TEXT;
+    started TIMESTAMPTZ;
+    elapsed NUMERIC;
+    round INT;
+BEGIN
+    SELECT array_agg(cpf ORDER BY random()) INTO keys
+    FROM (SELECT cpf FROM bench_cpf_bigint ORDER BY random() LIMIT lookups) AS sample;
+    SELECT array_agg(lpad(k::text, 11, '0')) INTO text_keys FROM unnest(keys) AS k;
+
+    -- Two rounds so both indexes are cached; only the second is recorded.
+    FOR round IN 1..2 LOOP
+        started := clock_timestamp();
+        FOR i IN 1..lookups LOOP
+            SELECT id INTO found_id FROM bench_cpf_text WHERE cpf = text_keys[i];
+        END LOOP;
+        elapsed := extract(epoch FROM clock_timestamp() - started) * 1000;
+        IF round = 2 THEN
+            INSERT INTO bench_cpf_result VALUES ('varchar(14)', lookups, round(elapsed, 1), round(elapsed * 1000 / lookups, 2));
+        END IF;
+
+        started := clock_timestamp();
+        FOR i IN 1..lookups LOOP
+            SELECT id INTO found_id FROM bench_cpf_bigint WHERE cpf = keys[i];
+        END LOOP;
+        elapsed := extract(epoch FROM clock_timestamp() - started) * 1000;
+        IF round = 2 THEN
+            INSERT INTO bench_cpf_result VALUES ('bigint', lookups, round(elapsed, 1), round(elapsed * 1000 / lookups, 2));
+        END IF;
+    END LOOP;
+END $$;
+
+SELECT 'varchar(14)' AS storage,
+       pg_size_pretty(pg_relation_size('bench_cpf_text_cpf')) AS cpf_index,
+       pg_size_pretty(pg_relation_size('bench_cpf_text')) AS heap
+UNION ALL
+SELECT 'bigint',
+       pg_size_pretty(pg_relation_size('bench_cpf_bigint_cpf')),
+       pg_size_pretty(pg_relation_size('bench_cpf_bigint'));
+
+SELECT * FROM bench_cpf_result;
+
+DROP TABLE bench_cpf_text;
+DROP TABLE bench_cpf_bigint;
+DROP TABLE bench_cpf_result;
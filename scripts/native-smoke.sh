@@ -0,0 +1,34 @@
+#!/usr/bin/env bash
+# Starts the native executable against a local Postgres, exercises every /v1/clients endpoint and
+# reports time to first /health/readiness and resident memory. APP can point at the JVM build for comparison:
+#   scripts/native-smoke.sh                                   # target/app-users (mvn -Pnative package)
+#   APP="java -jar target/app-users.jar" scripts/native-smoke.sh
+set -euo pipefail
+
+APP=${APP:-target/app-users}
+PORT=${PORT:-8080}
+DB_URL=${DB_URL:-jdbc:postgresql://localhost:5432/food_oders_db}
+DB_USER=${DB_USER:-postgres}
+DB_PASSWORD=${DB_PASSWORD:-admin}
+LOG=${LOG:-target/native-smoke.log}
+
+source "$(dirname "$0")/client-checks.sh"
+
+start=$(date +%s%N)
+$APP --server.port="$PORT" --spring.profiles.active=local --spring.datasource.url="$DB_URL" \
+    --spring.datasource.username="$DB_USER" --spring.datasource.password="$DB_PASSWORD" > "$LOG" 2>&1 &
+pid=$!
+trap 'kill $pid 2>/dev/null && wait $pid 2>/dev/null || true' EXIT
+
+if ! wait_for_readiness "$pid"; then
+    echo "Application exited before /health/readiness answered, see $LOG" >&2
+    exit 1
+fi
+startup=$(( ($(date +%s%N) - start) / 1000000 ))
+rss_idle=$(awk '/VmRSS/ {print $2}' "/proc/$pid/status")
+
+client_checks
+
+rss_after=$(awk '/VmRSS/ {print $2}' "/proc/$pid/status")
+echo "time to first /health/readiness: ${startup} ms, RSS idle: $((rss_idle / 1024)) MiB, after requests: $((rss_after / 1024)) MiB"
+[ "$failures" -eq 0 ]
@@ -0,0 +1,31 @@
+#!/usr/bin/env bash
+# Measures wall time from JVM launch to the first 200 on /health/readiness and appends it to
+# target/startup-times.csv. Extra arguments are passed to java before -jar, e.g.
+#   scripts/startup-time.sh aot-cds -XX:SharedArchiveFile=app.jsa -Dspring.aot.enabled=true
+set -euo pipefail
+
+LABEL=${1:-default}
+shift || true
+JAR=${JAR:-target/app-users.jar}
+JAVA=${JAVA:-java}
+PORT=${PORT:-8080}
+RESULTS=${RESULTS:-target/startup-times.csv}
+APP_ARGS=${APP_ARGS:-}
+
+start=$(date +%s%N)
+$JAVA "$@" -jar "$JAR" --server.port="$PORT" $APP_ARGS > "target/startup-$LABEL.log" 2>&1 &
+pid=$!
+trap 'kill $pid 2>/dev/null && wait $pid 2>/dev/null || true' EXIT
+
+until curl -sf -o /dev/null "http://localhost:$PORT/health/readiness"; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+        echo "Application exited before /health/readiness answered, see target/startup-$LABEL.log" >&2
+        exit 1
+    fi
+    sleep 0.05
+done
+elapsed=$(( ($(date +%s%N) - start) / 1000000 ))
+
+[ -f "$RESULTS" ] || echo "timestamp,label,time_to_first_health_ms" > "$RESULTS"
+echo "$(date -u +%Y-%m-%dT%H:%M:%SZ),$LABEL,$elapsed" >> "$RESULTS"
+echo "$LABEL: first /health/readiness after ${elapsed} ms"
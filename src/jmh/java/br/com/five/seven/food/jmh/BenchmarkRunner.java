@@ -0,0 +1,109 @@
+package br.com.five.seven.food.jmh;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class BenchmarkRunner {
+
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+    private static final double ALLOCATION_SLACK_BYTES = 8;
+    private static final String DB_BENCHMARKS = BenchmarkRunner.class.getPackageName() + ".db.*";
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        Path result = Path.of(System.getProperty("jmh.result", "target/jmh-result.json"));
+        Path baseline = Path.of(System.getProperty("jmh.baseline", "src/jmh/resources/jmh-baseline.json"));
+        double threshold = Double.parseDouble(System.getProperty("jmh.threshold", "0.15"));
+
+        Files.createDirectories(result.toAbsolutePath().getParent());
+        ChainedOptionsBuilder builder = new OptionsBuilder()
+                .include(System.getProperty("jmh.include", BenchmarkRunner.class.getPackageName() + ".*"));
+        // Forked JVMs inherit this JVM's -D flags, so jmh.db.* reaches the database benchmarks as-is.
+        if (System.getProperty("jmh.db.url", "").isBlank()) {
+            builder.exclude(DB_BENCHMARKS);
+        }
+        Options options = builder
+                .forks(Integer.getInteger("jmh.forks", 1))
+                .warmupIterations(Integer.getInteger("jmh.warmupIterations", 3))
+                .measurementIterations(Integer.getInteger("jmh.iterations", 5))
+                .warmupTime(TimeValue.fromString(System.getProperty("jmh.iterationTime", "1s")))
+                .measurementTime(TimeValue.fromString(System.getProperty("jmh.iterationTime", "1s")))
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(result.toString())
+                .build();
+        new Runner(options).run();
+
+        if (Boolean.getBoolean("jmh.updateBaseline") || !Files.exists(baseline)) {
+            Files.copy(result, baseline, StandardCopyOption.REPLACE_EXISTING);
+            System.out.println("Baseline written to " + baseline);
+            return;
+        }
+
+        List<String> regressions = compare(read(baseline), read(result), threshold);
+        if (!regressions.isEmpty()) {
+            regressions.forEach(System.err::println);
+            System.exit(1);
+        }
+        System.out.println("No regressions against " + baseline);
+    }
+
+    static List<String> compare(Map<String, JsonNode> baseline, Map<String, JsonNode> current, double threshold) {
+        List<String> regressions = new ArrayList<>();
+        System.out.printf("%-70s %14s %14s %12s %12s%n", "Benchmark", "Base score", "Score", "Base B/op", "B/op");
+        current.forEach((key, run) -> {
+            JsonNode base = baseline.get(key);
+            double score = run.path("primaryMetric").path("score").asDouble();
+            double allocation = allocation(run);
+            if (base == null) {
+                System.out.printf("%-70s %14s %14.3f %12s %12.1f%n", key, "-", score, "-", allocation);
+                return;
+            }
+            double baseScore = base.path("primaryMetric").path("score").asDouble();
+            double baseAllocation = allocation(base);
+            System.out.printf("%-70s %14.3f %14.3f %12.1f %12.1f%n", key, baseScore, score, baseAllocation, allocation);
+
+            if (score < baseScore * (1 - threshold)) {
+                regressions.add(String.format("%s throughput dropped from %.3f to %.3f %s",
+                        key, baseScore, score, run.path("primaryMetric").path("scoreUnit").asText()));
+            }
+            if (allocation > baseAllocation * (1 + threshold) + ALLOCATION_SLACK_BYTES) {
+                regressions.add(String.format("%s allocation grew from %.1f to %.1f B/op", key, baseAllocation, allocation));
+            }
+        });
+        return regressions;
+    }
+
+    private static double allocation(JsonNode run) {
+        JsonNode secondary = run.path("secondaryMetrics");
+        JsonNode metric = secondary.has(ALLOCATION_METRIC) ? secondary.get(ALLOCATION_METRIC) : secondary.path("·" + ALLOCATION_METRIC);
+        return metric.path("score").asDouble();
+    }
+
+    private static Map<String, JsonNode> read(Path file) throws IOException {
+        Map<String, JsonNode> runs = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file.toFile())) {
+            StringBuilder key = new StringBuilder(run.path("benchmark").asText());
+            run.path("params").fields().forEachRemaining(param ->
+                    key.append(':').append(param.getKey()).append('=').append(param.getValue().asText()));
+            runs.put(key.toString(), run);
+        }
+        return runs;
+    }
+}
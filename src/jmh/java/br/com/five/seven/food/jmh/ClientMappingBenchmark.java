@@ -0,0 +1,63 @@
+package br.com.five.seven.food.jmh;
+
+import br.com.five.seven.food.domain.model.Client;
+import br.com.five.seven.food.infra.persistence.entity.ClientEntity;
+import br.com.five.seven.food.rest.mapper.ClientMapper;
+import br.com.five.seven.food.rest.mapper.ClientMapperImpl;
+import br.com.five.seven.food.rest.request.ClientRequest;
+import br.com.five.seven.food.rest.response.ClientResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ClientMappingBenchmark {
+
+    private final ClientMapper mapper = new ClientMapperImpl();
+    private ClientRequest request;
+    private Client client;
+    private ClientEntity entity;
+
+    @Setup
+    public void setup() {
+        request = new ClientRequest(null, "52998224725", "João Silva", "joao.silva@example.com", "11999999999");
+        client = mapper.requestToDomain(request);
+        client.setId("0b0d7c4e-5c1f-4a53-9d8a-3f1f3c2b9e10");
+        client.setCreatedAt(LocalDateTime.of(2024, 1, 1, 12, 0));
+        entity = new ClientEntity(client);
+    }
+
+    @Benchmark
+    public Client requestToDomain() {
+        return mapper.requestToDomain(request);
+    }
+
+    @Benchmark
+    public ClientResponse domainToResponse() {
+        return mapper.domainToResponse(client);
+    }
+
+    @Benchmark
+    public Client entityToDomain() {
+        return mapper.entityToDomain(entity);
+    }
+
+    @Benchmark
+    public ClientEntity domainToEntity() {
+        return mapper.domainToEntity(client);
+    }
+
+    @Benchmark
+    public ClientEntity newClientEntity() {
+        return new ClientEntity(client);
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.five.seven.food.jmh;
+
+import br.com.five.seven.food.rest.response.ClientResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ClientSerializationBenchmark {
+
+    @Param({"1", "50", "500"})
+    private int size;
+
+    private ObjectWriter writer;
+    private List<ClientResponse> clients;
+
+    @Setup
+    public void setup() {
+        writer = new ObjectMapper().writerFor(List.class);
+        clients = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            clients.add(new ClientResponse(
+                    String.format("0b0d7c4e-5c1f-4a53-9d8a-%012d", i),
+                    String.format("%011d", i),
+                    "Cliente " + i,
+                    "cliente" + i + "@example.com",
+                    "11999999999"));
+        }
+    }
+
+    @Benchmark
+    public byte[] writeList() throws JsonProcessingException {
+        return writer.writeValueAsBytes(clients);
+    }
+}
@@ -0,0 +1,42 @@
+package br.com.five.seven.food.jmh;
+
+import br.com.five.seven.food.application.utils.ValidationUtil;
+import br.com.five.seven.food.infra.utils.FoodUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ValidationBenchmark {
+
+    private String cpf = "52998224725";
+    private String formattedCpf = "529.982.247-25";
+    private String email = "joao.silva+pedidos@example.com.br";
+
+    @Benchmark
+    public boolean validarCpf() {
+        return ValidationUtil.validarCPF(cpf);
+    }
+
+    @Benchmark
+    public boolean validarCpfFormatado() {
+        return ValidationUtil.validarCPF(formattedCpf);
+    }
+
+    @Benchmark
+    public boolean validarEmail() {
+        return ValidationUtil.validarEmail(email);
+    }
+
+    @Benchmark
+    public String limparString() {
+        return FoodUtils.limparString(formattedCpf);
+    }
+}
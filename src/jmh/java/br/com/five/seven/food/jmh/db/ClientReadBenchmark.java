@@ -0,0 +1,84 @@
+package br.com.five.seven.food.jmh.db;
+
+import br.com.five.seven.food.domain.model.Client;
+import br.com.five.seven.food.infra.persistence.entity.ClientEntity;
+import br.com.five.seven.food.infra.persistence.repository.ClienteRepository;
+import br.com.five.seven.food.rest.mapper.ClientMapper;
+import br.com.five.seven.food.rest.mapper.ClientMapperImpl;
+import br.com.five.seven.food.rest.response.ClientResponse;
+import org.hibernate.FlushMode;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.query.SelectionQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Reads one page of {@value #ROWS} clients from tb_client and maps it to the response shape, once through managed
+ * entities (the old list/export path) and once through the constructor projection the adapter uses now. Scores and
+ * gc.alloc.rate.norm are per row. Both run in a read-only session, like a {@code @Transactional(readOnly = true)}
+ * method. Only runs when -Djmh.db.url is set and tb_client has at least {@value #ROWS} rows.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(ClientReadBenchmark.ROWS)
+public class ClientReadBenchmark {
+
+    static final int ROWS = 500;
+
+    private final ClientMapper mapper = new ClientMapperImpl();
+    private SessionFactory sessionFactory;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(ClientEntity.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, System.getProperty("jmh.db.url"))
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, System.getProperty("jmh.db.user", "postgres"))
+                .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, System.getProperty("jmh.db.password", ""))
+                .setProperty(AvailableSettings.USE_SECOND_LEVEL_CACHE, "false")
+                .buildSessionFactory();
+    }
+
+    @Benchmark
+    public List<ClientResponse> managedEntities() {
+        return read(query -> query.createSelectionQuery("select c from tb_client c order by c.id", ClientEntity.class),
+                entities -> entities.map(mapper::entityToDomain));
+    }
+
+    @Benchmark
+    public List<ClientResponse> projection() {
+        return read(query -> query.createSelectionQuery(ClienteRepository.CLIENT_PROJECTION + " order by c.id", Client.class),
+                Function.identity());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    private <T> List<ClientResponse> read(Function<org.hibernate.Session, SelectionQuery<T>> query,
+                                          Function<Stream<T>, Stream<Client>> toDomain) {
+        return sessionFactory.fromTransaction(session -> {
+            session.setDefaultReadOnly(true);
+            session.setHibernateFlushMode(FlushMode.MANUAL);
+            List<T> rows = query.apply(session).setMaxResults(ROWS).getResultList();
+            return toDomain.apply(rows.stream()).map(mapper::domainToResponse).toList();
+        });
+    }
+}
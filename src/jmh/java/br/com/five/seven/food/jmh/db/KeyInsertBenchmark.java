@@ -0,0 +1,123 @@
+package br.com.five.seven.food.jmh.db;
+
+import br.com.five.seven.food.infra.persistence.id.UuidV7;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserts batches of rows keyed by random v4 UUIDs (as VARCHAR(36) and as uuid) or by UuidV7 into a
+ * table preloaded with {@code preload} rows. Only runs when -Djmh.db.url is set; every run creates and
+ * drops its own bench_key table.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class KeyInsertBenchmark {
+
+    private static final int BATCH_SIZE = 500;
+
+    @Param({"v4_varchar", "v4_uuid", "v7_uuid"})
+    private String scheme;
+
+    @Param({"1000000"})
+    private int preload;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private long rows;
+    private long walStart;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection(System.getProperty("jmh.db.url"),
+                System.getProperty("jmh.db.user", "postgres"), System.getProperty("jmh.db.password", ""));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_key");
+            statement.execute("CREATE TABLE bench_key (id " + ("v4_varchar".equals(scheme) ? "VARCHAR(36)" : "UUID") +
+                    " PRIMARY KEY, name VARCHAR(100) NOT NULL, email VARCHAR(255) NOT NULL, created_at TIMESTAMP NOT NULL)");
+            statement.execute("INSERT INTO bench_key SELECT " + preloadKey() + ", 'Name ' || n, 'user' || n || '@mail.com', now() " +
+                    "FROM generate_series(1, " + preload + ") AS n");
+            statement.execute("VACUUM ANALYZE bench_key");
+            statement.execute("CHECKPOINT");
+        }
+        StringBuilder sql = new StringBuilder("INSERT INTO bench_key (id, name, email, created_at) VALUES ");
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            sql.append(i == 0 ? "" : ", ").append("(?, ?, ?, ?)");
+        }
+        insert = connection.prepareStatement(sql.toString());
+        walStart = walLsn();
+    }
+
+    @Benchmark
+    public int insertBatch() throws SQLException {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int index = 1;
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setObject(index++, nextKey());
+            insert.setString(index++, "Client");
+            insert.setString(index++, "client@mail.com");
+            insert.setTimestamp(index++, now);
+        }
+        rows += BATCH_SIZE;
+        return insert.executeUpdate();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        long wal = walLsn() - walStart;
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT pg_relation_size('bench_key_pkey'), pg_relation_size('bench_key')")) {
+            rs.next();
+            System.out.printf("%n[%s] rows inserted=%d, WAL=%.1f B/row, pk index=%d MB, heap=%d MB%n",
+                    scheme, rows, rows == 0 ? 0.0 : wal / (double) rows, rs.getLong(1) >> 20, rs.getLong(2) >> 20);
+            statement.execute("DROP TABLE bench_key");
+        } finally {
+            connection.close();
+        }
+    }
+
+    private Object nextKey() {
+        return switch (scheme) {
+            case "v4_varchar" -> UUID.randomUUID().toString();
+            case "v4_uuid" -> UUID.randomUUID();
+            default -> UuidV7.next();
+        };
+    }
+
+    private String preloadKey() {
+        return switch (scheme) {
+            case "v4_varchar" -> "gen_random_uuid()::text";
+            case "v4_uuid" -> "gen_random_uuid()";
+            // Time-ordered keys an hour in the past, so new UuidV7 ids append after them.
+            default -> "(lpad(to_hex((extract(epoch FROM now()) * 1000)::bigint - 3600000 + n), 12, '0') " +
+                    "|| '7000' || '8' || substr(md5(n::text), 1, 15))::uuid";
+        };
+    }
+
+    private long walLsn() throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT pg_current_wal_lsn() - '0/0'::pg_lsn")) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+}
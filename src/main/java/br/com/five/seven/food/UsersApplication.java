@@ -1,14 +1,12 @@
 package br.com.five.seven.food;
 
+import br.com.five.seven.food.infra.aot.NativeRuntimeHints;
 import org.springframework.boot.SpringApplication;
-import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.cloud.openfeign.EnableFeignClients;
-import org.springframework.cloud.openfeign.FeignAutoConfiguration;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
-@EnableFeignClients
-@ImportAutoConfiguration({FeignAutoConfiguration.class})
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class UsersApplication {
 
 	public static void main(String[] args) {
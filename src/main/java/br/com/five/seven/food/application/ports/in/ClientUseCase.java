@@ -1,14 +1,29 @@
 package br.com.five.seven.food.application.ports.in;
 
 import br.com.five.seven.food.domain.model.Client;
+import br.com.five.seven.food.domain.model.ClientCollectionState;
+import br.com.five.seven.food.domain.model.ClientDeleteResult;
+import br.com.five.seven.food.domain.model.ClientStats;
+import br.com.five.seven.food.domain.model.ClientPage;
+import br.com.five.seven.food.domain.model.ClientUpsertResult;
+import br.com.five.seven.food.domain.model.ClientVersion;
 import jakarta.xml.bind.ValidationException;
 
 import java.util.List;
+import java.util.function.Consumer;
+
 public interface ClientUseCase {
 
     Client createClient(Client client) throws ValidationException;
+    List<ClientUpsertResult> upsertAll(List<Client> clients) throws ValidationException;
     List<Client> findAll();
+    ClientPage findPage(String cursor, int size) throws ValidationException;
+    ClientPage search(String query, String cursor, int size) throws ValidationException;
+    void exportAll(Consumer<Client> consumer);
+    ClientCollectionState collectionState();
+    ClientStats clientStats();
     Client findByCpf(String cpf);
-    Client update(String cpf, Client client) throws ValidationException;
+    Client update(String cpf, Client client, ClientVersion expected) throws ValidationException;
     void delete(String cpf);
+    List<ClientDeleteResult> deleteAll(List<String> cpfs) throws ValidationException;
 }
@@ -1,34 +1,91 @@
 package br.com.five.seven.food.application.service;
 
 import br.com.five.seven.food.application.ports.in.ClientUseCase;
+import br.com.five.seven.food.application.utils.CursorUtil;
 import br.com.five.seven.food.application.utils.ValidationUtil;
 import br.com.five.seven.food.domain.model.Client;
+import br.com.five.seven.food.domain.model.ClientCollectionState;
+import br.com.five.seven.food.domain.model.ClientDeleteResult;
+import br.com.five.seven.food.domain.model.ClientStats;
+import br.com.five.seven.food.domain.model.ClientPage;
+import br.com.five.seven.food.domain.model.ClientUpsertResult;
+import br.com.five.seven.food.domain.model.ClientVersion;
 import br.com.five.seven.food.domain.repository.IClientRepository;
+import br.com.five.seven.food.infra.exceptions.PreconditionFailedException;
 import br.com.five.seven.food.infra.utils.FoodUtils;
 import jakarta.xml.bind.ValidationException;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
 
 @Repository
 @AllArgsConstructor
 public class ClientService implements ClientUseCase {
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+    public static final int MAX_BATCH_SIZE = 10_000;
+    public static final int MIN_SEARCH_LENGTH = 3;
+    public static final int MAX_SEARCH_LENGTH = 100;
+    private static final Pattern SEARCHABLE = Pattern.compile("[\\p{L}\\p{N}]{" + MIN_SEARCH_LENGTH + "}");
+    private static final int CPF_LENGTH = 11;
+    private static final int MAX_NAME_LENGTH = 100;
+    private static final int MAX_EMAIL_LENGTH = 255;
+    private static final int MAX_PHONE_LENGTH = 20;
+
     private final IClientRepository repository;
 
     @Override
     public Client createClient(Client client) throws ValidationException {
         validateClient(client);
-        var clientSearched = findByCpf(client.getCpf());
-        if (clientSearched == null) {
-            client.setCreatedAt(LocalDateTime.now());
-            return repository.save(client);
-        }
-        client.setId(clientSearched.getId());
-        client.setCreatedAt(clientSearched.getCreatedAt());
-        return update(client.getCpf(), client);
+        client.setCreatedAt(LocalDateTime.now());
+        return repository.upsert(client).getClient();
+    }
+
+    @Override
+    public List<ClientUpsertResult> upsertAll(List<Client> clients) throws ValidationException {
+        if (clients.size() > MAX_BATCH_SIZE) {
+            throw new ValidationException("Batch cannot have more than " + MAX_BATCH_SIZE + " clients");
+        }
+        ClientUpsertResult[] results = new ClientUpsertResult[clients.size()];
+        Map<String, Integer> lastIndexByCpf = new LinkedHashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < clients.size(); i++) {
+            Client client = clients.get(i);
+            if (client == null) {
+                results[i] = ClientUpsertResult.invalid(null, "Client cannot be null");
+                continue;
+            }
+            try {
+                validateClient(client);
+            } catch (ValidationException e) {
+                results[i] = ClientUpsertResult.invalid(client.getCpf(), e.getMessage());
+                continue;
+            }
+            client.setCreatedAt(now);
+            Integer previous = lastIndexByCpf.put(client.getCpf(), i);
+            if (previous != null) {
+                results[previous] = ClientUpsertResult.invalid(client.getCpf(), "Client cpf repeated later in the batch");
+            }
+        }
+        if (!lastIndexByCpf.isEmpty()) {
+            List<Client> valid = lastIndexByCpf.values().stream().map(clients::get).toList();
+            Map<String, ClientUpsertResult> stored = new LinkedHashMap<>();
+            repository.upsertAll(valid).forEach(result -> stored.put(result.getCpf(), result));
+            lastIndexByCpf.forEach((cpf, index) -> results[index] = stored.get(cpf));
+        }
+        return Arrays.asList(results);
     }
 
     @Override
@@ -37,24 +94,58 @@ public class ClientService implements ClientUseCase {
     }
 
     @Override
-    public Client findByCpf(String cpf) {
-        return repository.findByCpf(FoodUtils.limparString(cpf));
+    public ClientPage findPage(String cursor, int size) throws ValidationException {
+        int pageSize = pageSize(size);
+        return page(repository.findPage(CursorUtil.decode(cursor), pageSize + 1), pageSize);
+    }
+
+    @Override
+    public ClientPage search(String query, String cursor, int size) throws ValidationException {
+        String term = query == null ? "" : query.trim();
+        // Trigrams only come from runs of letters and digits; a term without one would scan the whole table
+        if (term.length() > MAX_SEARCH_LENGTH || !SEARCHABLE.matcher(term).find()) {
+            throw new ValidationException("Search query must have up to " + MAX_SEARCH_LENGTH + " characters and "
+                    + MIN_SEARCH_LENGTH + " consecutive letters or digits");
+        }
+        int pageSize = pageSize(size);
+        return page(repository.search(term, CursorUtil.decode(cursor), pageSize + 1), pageSize);
     }
 
     @Override
-    public Client update(String cpf, Client client) throws ValidationException {
+    public void exportAll(Consumer<Client> consumer) {
+        repository.streamAll(consumer);
+    }
 
-        var clientSearched = findByCpf(client.getCpf());
+    @Override
+    public ClientCollectionState collectionState() {
+        return repository.collectionState();
+    }
 
-        if (clientSearched == null) {
-            throw new ValidationException("Client not found");
-        }
+    @Override
+    public ClientStats clientStats() {
+        return repository.clientStats();
+    }
+
+    @Override
+    public Client findByCpf(String cpf) {
+        return repository.findByCpf(FoodUtils.limparString(cpf));
+    }
 
+    @Override
+    public Client update(String cpf, Client client, ClientVersion expected) throws ValidationException {
         validateClient(client);
         client.setCpf(FoodUtils.limparString(cpf));
         client.setUpdatedAt(LocalDateTime.now());
-        client.setCreatedAt(clientSearched.getCreatedAt());
-        return repository.save(client);
+
+        ClientUpsertResult updated = repository.update(client, expected);
+        if (updated != null) {
+            return updated.getClient();
+        }
+        // Only a miss costs a second query, to tell a stale If-Match from an unknown cpf
+        if (expected != null && findByCpf(cpf) != null) {
+            throw new PreconditionFailedException("Client was modified since the given ETag");
+        }
+        throw new ValidationException("Client not found");
     }
 
     @Override
@@ -62,11 +153,52 @@ public class ClientService implements ClientUseCase {
         repository.delete(cpf);
     }
 
+    @Override
+    public List<ClientDeleteResult> deleteAll(List<String> cpfs) throws ValidationException {
+        if (cpfs.size() > MAX_BATCH_SIZE) {
+            throw new ValidationException("Batch cannot have more than " + MAX_BATCH_SIZE + " clients");
+        }
+        List<String> cleaned = cpfs.stream().map(FoodUtils::limparString).toList();
+        // Only the format is checked, not the check digits, so rows stored before validation existed can be erased too
+        Set<String> valid = new LinkedHashSet<>();
+        cleaned.stream().filter(cpf -> cpf.length() == CPF_LENGTH).forEach(valid::add);
+        Map<String, ClientDeleteResult> deleted = new HashMap<>();
+        if (!valid.isEmpty()) {
+            repository.deleteAll(new ArrayList<>(valid)).forEach(result -> deleted.put(result.getCpf(), result));
+        }
+        // A row is reported deleted once; repeats of its cpf find nothing left to delete
+        return cleaned.stream()
+                .map(cpf -> {
+                    if (cpf.length() != CPF_LENGTH) {
+                        return ClientDeleteResult.invalid(cpf, "Client cpf must have " + CPF_LENGTH + " digits");
+                    }
+                    ClientDeleteResult result = deleted.remove(cpf);
+                    return result != null ? result : ClientDeleteResult.notFound(cpf);
+                })
+                .toList();
+    }
+
+    private static int pageSize(int size) {
+        return size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    private static ClientPage page(List<Client> clients, int pageSize) {
+        if (clients.size() <= pageSize) {
+            return new ClientPage(clients, null);
+        }
+        List<Client> items = clients.subList(0, pageSize);
+        return new ClientPage(items, CursorUtil.encode(items.get(pageSize - 1).getId()));
+    }
+
     private void validateClient(Client client) throws ValidationException {
         if (client.getName() == null || client.getName().isEmpty()) {
             throw new ValidationException("Client name cannot be empty");
         }
 
+        if (client.getName().length() > MAX_NAME_LENGTH) {
+            throw new ValidationException("Client name cannot have more than " + MAX_NAME_LENGTH + " characters");
+        }
+
         if (client.getCpf() != null && !ValidationUtil.validarCPF(client.getCpf())) {
             throw new ValidationException("Client cpf cannot be valid");
         }
@@ -78,5 +210,13 @@ public class ClientService implements ClientUseCase {
         if (client.getEmail() != null && !ValidationUtil.validarEmail(client.getEmail())) {
             throw new ValidationException("Client email cannot be valid");
         }
+
+        if (client.getEmail().length() > MAX_EMAIL_LENGTH) {
+            throw new ValidationException("Client email cannot have more than " + MAX_EMAIL_LENGTH + " characters");
+        }
+
+        if (client.getPhone() != null && client.getPhone().length() > MAX_PHONE_LENGTH) {
+            throw new ValidationException("Client phone cannot have more than " + MAX_PHONE_LENGTH + " characters");
+        }
     }
 }
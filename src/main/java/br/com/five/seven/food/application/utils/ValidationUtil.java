@@ -2,52 +2,84 @@ package br.com.five.seven.food.application.utils;
 
 public class ValidationUtil {
 
-    public static boolean validarCPF(String cpf) {
-        cpf = cpf.replaceAll("[^0-9]", "");
+    private static final int CPF_LENGTH = 11;
 
-        if (cpf.length() != 11) {
-            return false;
-        }
-        if (cpf.matches("(\\d)\\1{10}")) {
+    public static boolean validarCPF(String cpf) {
+        if (cpf == null) {
             return false;
         }
 
-        try {
-            int soma = 0;
-            for (int i = 0; i < 9; i++) {
-                soma += Character.getNumericValue(cpf.charAt(i)) * (10 - i);
-            }
-            int primeiroDigito = 11 - (soma % 11);
-            if (primeiroDigito >= 10) {
-                primeiroDigito = 0;
-            }
+        int digits = 0;
+        int firstDigit = -1;
+        boolean allDigitsEqual = true;
+        int firstSum = 0;
+        int secondSum = 0;
+        int firstCheckDigit = 0;
+        int secondCheckDigit = 0;
 
-            if (primeiroDigito != Character.getNumericValue(cpf.charAt(9))) {
+        for (int i = 0, length = cpf.length(); i < length; i++) {
+            char c = cpf.charAt(i);
+            if (c < '0' || c > '9') {
+                continue;
+            }
+            if (digits == CPF_LENGTH) {
                 return false;
             }
-
-            soma = 0;
-            for (int i = 0; i < 10; i++) {
-                soma += Character.getNumericValue(cpf.charAt(i)) * (11 - i);
+            int digit = c - '0';
+            if (digits == 0) {
+                firstDigit = digit;
+            } else if (digit != firstDigit) {
+                allDigitsEqual = false;
             }
-            int segundoDigito = 11 - (soma % 11);
-            if (segundoDigito >= 10) {
-                segundoDigito = 0;
+            if (digits < 9) {
+                firstSum += digit * (10 - digits);
+                secondSum += digit * (11 - digits);
+            } else if (digits == 9) {
+                firstCheckDigit = digit;
+                secondSum += digit * 2;
+            } else {
+                secondCheckDigit = digit;
             }
-
-            return segundoDigito == Character.getNumericValue(cpf.charAt(10));
-        } catch (Exception e) {
-            return false;
+            digits++;
         }
-    }
 
+        return digits == CPF_LENGTH
+                && !allDigitsEqual
+                && checkDigit(firstSum) == firstCheckDigit
+                && checkDigit(secondSum) == secondCheckDigit;
+    }
 
     public static boolean validarEmail(String email) {
-        if (email == null || email.trim().isEmpty()) {
+        if (email == null) {
             return false;
         }
 
-        String regex = "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+$";
-        return email.matches(regex);
+        int length = email.length();
+        int at = -1;
+        for (int i = 0; i < length; i++) {
+            char c = email.charAt(i);
+            if (c == '@') {
+                if (at >= 0) {
+                    return false;
+                }
+                at = i;
+            } else if (!isDomainChar(c) && (at >= 0 || (c != '+' && c != '_'))) {
+                return false;
+            }
+        }
+        return at > 0 && at < length - 1;
+    }
+
+    private static int checkDigit(int sum) {
+        int digit = 11 - (sum % 11);
+        return digit >= 10 ? 0 : digit;
+    }
+
+    private static boolean isDomainChar(char c) {
+        return (c >= 'a' && c <= 'z')
+                || (c >= 'A' && c <= 'Z')
+                || (c >= '0' && c <= '9')
+                || c == '.'
+                || c == '-';
     }
 }
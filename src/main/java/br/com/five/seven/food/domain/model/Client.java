@@ -2,6 +2,8 @@ package br.com.five.seven.food.domain.model;
 
 import br.com.five.seven.food.infra.utils.FoodUtils;
 
+import java.time.LocalDateTime;
+
 public class Client extends TimeAt {
 
     private String id;
@@ -9,6 +11,7 @@ public class Client extends TimeAt {
     private String name;
     private String email;
     private String phone;
+    private Long version;
 
     public Client(String id, String cpf, String name, String email, String phone) {
         this.id = id;
@@ -18,9 +21,21 @@ public class Client extends TimeAt {
         this.phone = phone;
     }
 
+    public Client(String id, String cpf, String name, String email, String phone,
+                  LocalDateTime createdAt, LocalDateTime updatedAt, Long version) {
+        this(id, cpf, name, email, phone);
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.version = version;
+    }
+
     public Client() {
     }
 
+    public Client(Client other) {
+        this(other.id, other.cpf, other.name, other.email, other.phone, other.createdAt, other.updatedAt, other.version);
+    }
+
     public String getId() {
         return id;
     }
@@ -60,4 +75,12 @@ public class Client extends TimeAt {
     public void setPhone(String phone) {
         this.phone = phone;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
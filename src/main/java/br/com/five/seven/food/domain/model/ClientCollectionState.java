@@ -0,0 +1,22 @@
+package br.com.five.seven.food.domain.model;
+
+import java.time.LocalDateTime;
+
+public class ClientCollectionState {
+
+    private final long count;
+    private final LocalDateTime lastModified;
+
+    public ClientCollectionState(long count, LocalDateTime lastModified) {
+        this.count = count;
+        this.lastModified = lastModified;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public LocalDateTime getLastModified() {
+        return lastModified;
+    }
+}
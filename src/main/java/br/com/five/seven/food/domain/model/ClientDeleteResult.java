@@ -0,0 +1,67 @@
+package br.com.five.seven.food.domain.model;
+
+import java.time.LocalDateTime;
+
+public class ClientDeleteResult {
+
+    private final String cpf;
+    private final DeleteStatus status;
+    private final String message;
+    private final String id;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public ClientDeleteResult(String cpf, DeleteStatus status, String message, String id) {
+        this(cpf, status, message, id, null, null);
+    }
+
+    public ClientDeleteResult(String cpf, DeleteStatus status, String message, String id, LocalDateTime createdAt,
+                              LocalDateTime updatedAt) {
+        this.cpf = cpf;
+        this.status = status;
+        this.message = message;
+        this.id = id;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public static ClientDeleteResult deleted(String cpf, String id) {
+        return deleted(cpf, id, null, null);
+    }
+
+    public static ClientDeleteResult deleted(String cpf, String id, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        return new ClientDeleteResult(cpf, DeleteStatus.DELETED, null, id, createdAt, updatedAt);
+    }
+
+    public static ClientDeleteResult notFound(String cpf) {
+        return new ClientDeleteResult(cpf, DeleteStatus.NOT_FOUND, null, null);
+    }
+
+    public static ClientDeleteResult invalid(String cpf, String message) {
+        return new ClientDeleteResult(cpf, DeleteStatus.INVALID, message, null);
+    }
+
+    public String getCpf() {
+        return cpf;
+    }
+
+    public DeleteStatus getStatus() {
+        return status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,26 @@
+package br.com.five.seven.food.domain.model;
+
+import java.util.List;
+
+public class ClientPage {
+
+    private final List<Client> items;
+    private final String nextCursor;
+
+    public ClientPage(List<Client> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<Client> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
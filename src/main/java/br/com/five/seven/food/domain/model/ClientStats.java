@@ -0,0 +1,62 @@
+package br.com.five.seven.food.domain.model;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+public class ClientStats {
+
+    public static final int DAYS = 30;
+    public static final Duration UPDATED_WINDOW = Duration.ofHours(1);
+
+    private final long total;
+    private final SortedMap<LocalDate, Long> createdPerDay;
+    private final SortedMap<LocalDateTime, Long> updatedPerMinute;
+    private final LocalDateTime reconciledAt;
+
+    public ClientStats(long total, SortedMap<LocalDate, Long> createdPerDay, SortedMap<LocalDateTime, Long> updatedPerMinute,
+                       LocalDateTime reconciledAt) {
+        this.total = total;
+        this.createdPerDay = Collections.unmodifiableSortedMap(new TreeMap<>(createdPerDay));
+        this.updatedPerMinute = Collections.unmodifiableSortedMap(new TreeMap<>(updatedPerMinute));
+        this.reconciledAt = reconciledAt;
+    }
+
+    /**
+     * First day counted in {@link #getCreatedPerDay()}, so the map covers {@value #DAYS} days including today.
+     */
+    public static LocalDate firstDay(LocalDateTime now) {
+        return now.toLocalDate().minusDays(DAYS - 1);
+    }
+
+    /**
+     * First minute counted in {@link #getUpdatedLastHour()}, the current one being the last.
+     */
+    public static LocalDateTime firstMinute(LocalDateTime now) {
+        return now.truncatedTo(ChronoUnit.MINUTES).minus(UPDATED_WINDOW).plusMinutes(1);
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public SortedMap<LocalDate, Long> getCreatedPerDay() {
+        return createdPerDay;
+    }
+
+    public SortedMap<LocalDateTime, Long> getUpdatedPerMinute() {
+        return updatedPerMinute;
+    }
+
+    public long getUpdatedLastHour() {
+        return updatedPerMinute.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public LocalDateTime getReconciledAt() {
+        return reconciledAt;
+    }
+}
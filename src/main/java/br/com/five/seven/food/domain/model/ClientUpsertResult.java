@@ -0,0 +1,61 @@
+package br.com.five.seven.food.domain.model;
+
+import java.time.LocalDateTime;
+
+public class ClientUpsertResult {
+
+    private final String cpf;
+    private final UpsertStatus status;
+    private final String message;
+    private final Client client;
+    private final LocalDateTime previousUpdatedAt;
+
+    public ClientUpsertResult(String cpf, UpsertStatus status, String message, Client client) {
+        this(cpf, status, message, client, null);
+    }
+
+    public ClientUpsertResult(String cpf, UpsertStatus status, String message, Client client,
+                              LocalDateTime previousUpdatedAt) {
+        this.cpf = cpf;
+        this.status = status;
+        this.message = message;
+        this.client = client;
+        this.previousUpdatedAt = previousUpdatedAt;
+    }
+
+    public static ClientUpsertResult stored(Client client, boolean created) {
+        return stored(client, created, null);
+    }
+
+    public static ClientUpsertResult stored(Client client, boolean created, LocalDateTime previousUpdatedAt) {
+        return new ClientUpsertResult(client.getCpf(), created ? UpsertStatus.CREATED : UpsertStatus.UPDATED, null, client,
+                previousUpdatedAt);
+    }
+
+    public static ClientUpsertResult invalid(String cpf, String message) {
+        return new ClientUpsertResult(cpf, UpsertStatus.INVALID, message, null);
+    }
+
+    public String getCpf() {
+        return cpf;
+    }
+
+    public UpsertStatus getStatus() {
+        return status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public Client getClient() {
+        return client;
+    }
+
+    /**
+     * {@code updated_at} of the row before this write, {@code null} for a created row or one never updated before.
+     */
+    public LocalDateTime getPreviousUpdatedAt() {
+        return previousUpdatedAt;
+    }
+}
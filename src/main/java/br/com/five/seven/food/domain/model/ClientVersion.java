@@ -0,0 +1,20 @@
+package br.com.five.seven.food.domain.model;
+
+public class ClientVersion {
+
+    private final String id;
+    private final long version;
+
+    public ClientVersion(String id, long version) {
+        this.id = id;
+        this.version = version;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.five.seven.food.domain.model;
+
+public enum DeleteStatus {
+    DELETED,
+    NOT_FOUND,
+    INVALID
+}
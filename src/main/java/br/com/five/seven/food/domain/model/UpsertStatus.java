@@ -0,0 +1,7 @@
+package br.com.five.seven.food.domain.model;
+
+public enum UpsertStatus {
+    CREATED,
+    UPDATED,
+    INVALID
+}
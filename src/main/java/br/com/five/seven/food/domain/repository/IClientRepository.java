@@ -1,18 +1,40 @@
 package br.com.five.seven.food.domain.repository;
 
 import br.com.five.seven.food.domain.model.Client;
+import br.com.five.seven.food.domain.model.ClientCollectionState;
+import br.com.five.seven.food.domain.model.ClientDeleteResult;
+import br.com.five.seven.food.domain.model.ClientStats;
+import br.com.five.seven.food.domain.model.ClientUpsertResult;
+import br.com.five.seven.food.domain.model.ClientVersion;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface IClientRepository {
 
-    Client save(Client client);
+    ClientUpsertResult update(Client client, ClientVersion expected);
+
+    ClientUpsertResult upsert(Client client);
+
+    List<ClientUpsertResult> upsertAll(List<Client> clients);
 
     List<Client> findAll();
 
+    List<Client> findPage(String afterId, int limit);
+
+    List<Client> search(String query, String afterId, int limit);
+
+    void streamAll(Consumer<Client> consumer);
+
+    ClientCollectionState collectionState();
+
+    ClientStats clientStats();
+
     Client findByCpf(String cpf);
 
-    void delete(String cpf);
+    boolean delete(String cpf);
+
+    List<ClientDeleteResult> deleteAll(List<String> cpfs);
 
     Client findById(String id);
 }
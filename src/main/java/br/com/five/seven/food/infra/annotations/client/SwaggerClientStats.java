@@ -0,0 +1,19 @@
+package br.com.five.seven.food.infra.annotations.client;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Operation(summary = "Client statistics", description = "Total clients, clients created per day over the last 30 days and clients updated in the last hour. Served from in-memory counters that are reconciled with the database periodically; reconciledAt is the last reconciliation.")
+@ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Statistics retrieved")
+})
+public @interface SwaggerClientStats {
+}
@@ -0,0 +1,20 @@
+package br.com.five.seven.food.infra.annotations.client;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Operation(summary = "Delete clients in batch", description = "Delete up to 10000 clients by CPF and return the outcome of each item (DELETED, NOT_FOUND or INVALID) in request order. Meant for erasure requests: only the CPF format is checked.")
+@ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Batch processed"),
+        @ApiResponse(responseCode = "400", description = "Invalid input data")
+})
+public @interface SwaggerDeleteClients {
+}
@@ -0,0 +1,20 @@
+package br.com.five.seven.food.infra.annotations.client;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Operation(summary = "Export all clients", description = "Stream every registered client as newline-delimited JSON (application/x-ndjson).")
+@ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Clients successfully streamed"),
+        @ApiResponse(responseCode = "304", description = "No client changed since the ETag sent in If-None-Match")
+})
+public @interface SwaggerExportClients {
+}
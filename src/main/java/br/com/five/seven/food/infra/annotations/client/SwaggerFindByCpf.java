@@ -14,6 +14,7 @@ import java.lang.annotation.Target;
 @Operation(summary = "Find client by CPF", description = "Retrieve a specific client by their CPF.")
 @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Client successfully retrieved"),
+        @ApiResponse(responseCode = "304", description = "Client unchanged since the ETag sent in If-None-Match"),
         @ApiResponse(responseCode = "404", description = "Client not found")
 })
 public @interface SwaggerFindByCpf {
@@ -11,9 +11,11 @@ import java.lang.annotation.Target;
 
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.METHOD)
-@Operation(summary = "List all clients", description = "Retrieve a list of all registered clients.")
+@Operation(summary = "List all clients", description = "Retrieve a page of registered clients ordered by id. Use the returned nextCursor to fetch the following page.")
 @ApiResponses({
-        @ApiResponse(responseCode = "200", description = "Clients successfully retrieved")
+        @ApiResponse(responseCode = "200", description = "Clients successfully retrieved"),
+        @ApiResponse(responseCode = "304", description = "Page unchanged since the ETag sent in If-None-Match"),
+        @ApiResponse(responseCode = "400", description = "Cursor is not one returned by a previous page")
 })
 public @interface SwaggerListAllClients {
 }
@@ -0,0 +1,21 @@
+package br.com.five.seven.food.infra.annotations.client;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Operation(summary = "Search clients by name or email", description = "Case-insensitive partial match of q (3 to 100 characters) against name and email, in pages ordered by id. Use the returned nextCursor to fetch the following page.")
+@ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Matching clients retrieved"),
+        @ApiResponse(responseCode = "304", description = "Page unchanged since the ETag sent in If-None-Match"),
+        @ApiResponse(responseCode = "400", description = "Missing or unsearchable query, or a cursor not returned by a previous page")
+})
+public @interface SwaggerSearchClients {
+}
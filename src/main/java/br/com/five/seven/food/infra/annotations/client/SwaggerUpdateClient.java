@@ -14,7 +14,8 @@ import java.lang.annotation.Target;
 @Operation(summary = "Update client by CPF", description = "Update an existing client's details by their CPF.")
 @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Client successfully updated"),
-        @ApiResponse(responseCode = "404", description = "Client not found")
+        @ApiResponse(responseCode = "404", description = "Client not found"),
+        @ApiResponse(responseCode = "412", description = "If-Match does not name the current version of the client")
 })
 public @interface SwaggerUpdateClient {
 }
@@ -0,0 +1,20 @@
+package br.com.five.seven.food.infra.annotations.health;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Operation(summary = "Liveness probe", description = "Returns 200 while the background health checks keep running; the database state does not affect it.")
+@ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Service is live"),
+        @ApiResponse(responseCode = "503", description = "Background health checks stalled")
+})
+public @interface SwaggerLiveness {
+}
@@ -0,0 +1,20 @@
+package br.com.five.seven.food.infra.annotations.health;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Operation(summary = "Readiness probe", description = "Returns 200 when the last cached check reached the database. A saturated connection pool is reported in the body but does not fail readiness.")
+@ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Service is ready"),
+        @ApiResponse(responseCode = "503", description = "Database unreachable or checks stale")
+})
+public @interface SwaggerReadiness {
+}
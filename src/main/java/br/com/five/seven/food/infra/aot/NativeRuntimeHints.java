@@ -0,0 +1,65 @@
+package br.com.five.seven.food.infra.aot;
+
+import br.com.five.seven.food.infra.persistence.converter.CpfConverter;
+import br.com.five.seven.food.infra.persistence.entity.ClientEntity;
+import br.com.five.seven.food.infra.persistence.id.UuidV7Generator;
+import br.com.five.seven.food.infra.validation.CpfValidator;
+import br.com.five.seven.food.infra.validation.EmailValidator;
+import br.com.five.seven.food.rest.request.ClientRequest;
+import br.com.five.seven.food.rest.response.ClientBatchItemResponse;
+import br.com.five.seven.food.rest.response.ClientDeleteItemResponse;
+import br.com.five.seven.food.rest.response.ClientPageResponse;
+import br.com.five.seven.food.rest.response.ClientResponse;
+import br.com.five.seven.food.rest.response.ClientStatsResponse;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+/**
+ * Reflection, resource and proxy hints for the native image: types that Hibernate, Hibernate Validator, Jackson
+ * and Caffeine instantiate by name, the second-level cache configuration, and the JDBC proxies of
+ * {@code StatementCountingDataSource}.
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    // Caffeine picks generated classes by name: strong keys/values, stats, maximum size, expire after write
+    static final String CAFFEINE_CACHE = "com.github.benmanes.caffeine.cache.SSSMSW";
+    static final String CAFFEINE_NODE = "com.github.benmanes.caffeine.cache.PSWMS";
+    // Same without stats, for the authentication cache
+    static final String CAFFEINE_CACHE_NO_STATS = "com.github.benmanes.caffeine.cache.SSMSW";
+    // Second-level cache provider named in hibernate.javax.cache.provider, configured from application.conf
+    static final String JCACHE_PROVIDER = "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider";
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.reflection().registerType(ClientEntity.class, MemberCategory.DECLARED_FIELDS,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS);
+        for (Class<?> type : new Class<?>[]{UuidV7Generator.class, CpfConverter.class, CpfValidator.class, EmailValidator.class}) {
+            hints.reflection().registerType(type, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+                ClientRequest.class, ClientResponse.class, ClientPageResponse.class, ClientBatchItemResponse.class,
+                ClientDeleteItemResponse.class, ClientStatsResponse.class);
+
+        for (String type : new String[]{CAFFEINE_CACHE, CAFFEINE_CACHE_NO_STATS, CAFFEINE_NODE}) {
+            hints.reflection().registerType(TypeReference.of(type), MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.DECLARED_FIELDS);
+        }
+
+        hints.reflection().registerType(TypeReference.of(JCACHE_PROVIDER), MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.resources().registerPattern("application.conf").registerPattern("reference.conf");
+
+        for (Class<?> type : new Class<?>[]{Connection.class, Statement.class, PreparedStatement.class, CallableStatement.class}) {
+            hints.proxies().registerJdkProxy(type);
+            hints.reflection().registerType(type, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+    }
+}
@@ -1,17 +1,123 @@
 package br.com.five.seven.food.infra.beans;
 
+import br.com.five.seven.food.application.ports.in.ClientUseCase;
 import br.com.five.seven.food.application.service.ClientService;
 import br.com.five.seven.food.domain.repository.IClientRepository;
+import br.com.five.seven.food.infra.cache.CachingClientRepository;
+import br.com.five.seven.food.infra.cache.ClientCacheProperties;
+import br.com.five.seven.food.infra.coalescing.SingleFlightClientRepository;
+import br.com.five.seven.food.infra.crac.CheckpointProperties;
+import br.com.five.seven.food.infra.crac.ClientCacheCheckpointLifecycle;
+import br.com.five.seven.food.infra.crac.WarmupCheckpoint;
+import br.com.five.seven.food.infra.gate.DbGateProperties;
+import br.com.five.seven.food.infra.gate.GatedClientRepository;
+import br.com.five.seven.food.infra.health.HealthProbe;
+import br.com.five.seven.food.infra.health.HealthProperties;
+import br.com.five.seven.food.infra.metrics.MeteredClientUseCase;
+import br.com.five.seven.food.infra.persistence.repository.ClientRepositoryAdapterImpl;
+import br.com.five.seven.food.infra.persistence.routing.ReadYourWritesFilter;
+import br.com.five.seven.food.infra.stats.ClientStatsProperties;
+import br.com.five.seven.food.infra.stats.ClientStatsRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
 
 @Component
+@EnableConfigurationProperties({ClientCacheProperties.class, DbGateProperties.class, CheckpointProperties.class,
+        HealthProperties.class, ClientStatsProperties.class})
 public class ConfigBeans {
 
 
     @Bean
-    public ClientService clientService(IClientRepository iClientRepository) {
-        return new ClientService(iClientRepository);
+    public ClientService clientService(ClientStatsRepository clientStatsRepository) {
+        return new ClientService(clientStatsRepository);
+    }
+
+    @Bean
+    public ClientStatsRepository clientStatsRepository(CachingClientRepository cachingClientRepository,
+                                                       ClientStatsProperties properties) {
+        return new ClientStatsRepository(cachingClientRepository, properties);
+    }
+
+    @Bean
+    @Primary
+    public ClientUseCase meteredClientUseCase(ClientService clientService, MeterRegistry meterRegistry) {
+        return new MeteredClientUseCase(clientService, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public CachingClientRepository cachingClientRepository(ClientRepositoryAdapterImpl adapter,
+                                                           ClientCacheProperties properties,
+                                                           DbGateProperties gateProperties,
+                                                           DataSource dataSource,
+                                                           MeterRegistry meterRegistry) {
+        IClientRepository delegate = adapter;
+        if (gateProperties.enabled()) {
+            delegate = new GatedClientRepository(adapter, gatePermits(gateProperties, dataSource), gateProperties, meterRegistry);
+        }
+        // Coalesced lookups take a single gate permit between them
+        delegate = new SingleFlightClientRepository(delegate, meterRegistry);
+        return new CachingClientRepository(delegate, properties, meterRegistry);
+    }
+
+    /**
+     * The CDS training run in the image build refreshes the context with {@code spring.context.exit=onRefresh}
+     * and no database; with AOT the Flyway beans are fixed at build time, so migrations are skipped here instead.
+     */
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(Environment environment) {
+        return flyway -> {
+            if (!environment.containsProperty("spring.context.exit")) {
+                flyway.migrate();
+            }
+        };
+    }
+
+    @Bean
+    public ClientCacheCheckpointLifecycle clientCacheCheckpointLifecycle(CachingClientRepository cachingClientRepository,
+                                                                         EntityManagerFactory entityManagerFactory) {
+        return new ClientCacheCheckpointLifecycle(cachingClientRepository, entityManagerFactory);
+    }
+
+    @Bean
+    public WarmupCheckpoint warmupCheckpoint(CheckpointProperties properties, RestClient.Builder restClientBuilder) {
+        return new WarmupCheckpoint(properties, restClientBuilder);
+    }
+
+    @Bean
+    public HealthProbe healthProbe(DataSource dataSource, HealthProperties properties) {
+        return new HealthProbe(dataSource, properties);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter() {
+        return new ReadYourWritesFilter();
+    }
+
+    private int gatePermits(DbGateProperties properties, DataSource dataSource) {
+        if (properties.permits() > 0) {
+            return properties.permits();
+        }
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                // Exports hold their connections outside these permits
+                return Math.max(1, dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize() - properties.exportPermits());
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not resolve the connection pool size", e);
+        }
+        throw new IllegalStateException("food.db-gate.permits must be set when the pool is not Hikari");
     }
 
 }
@@ -0,0 +1,157 @@
+package br.com.five.seven.food.infra.cache;
+
+import br.com.five.seven.food.domain.model.Client;
+import br.com.five.seven.food.domain.model.ClientCollectionState;
+import br.com.five.seven.food.domain.model.ClientDeleteResult;
+import br.com.five.seven.food.domain.model.ClientStats;
+import br.com.five.seven.food.domain.model.ClientUpsertResult;
+import br.com.five.seven.food.domain.model.ClientVersion;
+import br.com.five.seven.food.domain.repository.IClientRepository;
+import br.com.five.seven.food.infra.utils.FoodUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * Caches clients by cpf in this instance only. Writes here refresh or drop the entry, but writes served by other
+ * instances don't, so an entry can be stale for up to {@code food.cache.client.ttl}; keep it short.
+ * <p>
+ * A read that misses stores what it loaded only if no write to a cpf in the same stripe finished while it ran; the
+ * check and the writes both go through {@code compute} on the key, so a slow read cannot put back a row that a write
+ * has already replaced.
+ */
+public class CachingClientRepository implements IClientRepository {
+
+    public static final String CACHE_NAME = "clients-by-cpf";
+
+    private static final int WRITE_STRIPES = 64;
+
+    private final IClientRepository delegate;
+    private final Cache<String, Client> cache;
+    private final AtomicLongArray writeStamps = new AtomicLongArray(WRITE_STRIPES);
+
+    public CachingClientRepository(IClientRepository delegate, ClientCacheProperties properties, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public ClientUpsertResult update(Client client, ClientVersion expected) {
+        ClientUpsertResult updated = delegate.update(client, expected);
+        refresh(client.getCpf(), updated == null ? null : updated.getClient());
+        return updated;
+    }
+
+    @Override
+    public ClientUpsertResult upsert(Client client) {
+        ClientUpsertResult result = delegate.upsert(client);
+        refresh(client.getCpf(), result.getClient());
+        return result;
+    }
+
+    @Override
+    public List<ClientUpsertResult> upsertAll(List<Client> clients) {
+        List<ClientUpsertResult> results = delegate.upsertAll(clients);
+        results.forEach(result -> refresh(result.getCpf(), result.getClient()));
+        return results;
+    }
+
+    @Override
+    public List<Client> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Client> findPage(String afterId, int limit) {
+        return delegate.findPage(afterId, limit);
+    }
+
+    @Override
+    public List<Client> search(String query, String afterId, int limit) {
+        return delegate.search(query, afterId, limit);
+    }
+
+    @Override
+    public void streamAll(Consumer<Client> consumer) {
+        delegate.streamAll(consumer);
+    }
+
+    @Override
+    public ClientCollectionState collectionState() {
+        return delegate.collectionState();
+    }
+
+    @Override
+    public ClientStats clientStats() {
+        return delegate.clientStats();
+    }
+
+    @Override
+    public Client findByCpf(String cpf) {
+        String key = FoodUtils.limparString(cpf);
+        Client cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return new Client(cached);
+        }
+        long stamp = writeStamps.get(stripe(key));
+        Client client = delegate.findByCpf(cpf);
+        if (client != null) {
+            Client copy = new Client(client);
+            cache.asMap().compute(key, (k, current) -> writeStamps.get(stripe(k)) == stamp ? copy : current);
+        }
+        return client;
+    }
+
+    @Override
+    public boolean delete(String cpf) {
+        boolean deleted = delegate.delete(cpf);
+        written(cpf, null);
+        return deleted;
+    }
+
+    @Override
+    public List<ClientDeleteResult> deleteAll(List<String> cpfs) {
+        List<ClientDeleteResult> results = delegate.deleteAll(cpfs);
+        cpfs.forEach(cpf -> written(cpf, null));
+        return results;
+    }
+
+    @Override
+    public Client findById(String id) {
+        return delegate.findById(id);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private void refresh(String cpf, Client saved) {
+        written(saved == null ? cpf : saved.getCpf(), saved);
+    }
+
+    private void written(String cpf, Client saved) {
+        cache.asMap().compute(FoodUtils.limparString(cpf), (k, current) -> {
+            writeStamps.incrementAndGet(stripe(k));
+            return saved == null ? null : new Client(saved);
+        });
+    }
+
+    private static int stripe(String key) {
+        return (key.hashCode() & Integer.MAX_VALUE) % WRITE_STRIPES;
+    }
+}
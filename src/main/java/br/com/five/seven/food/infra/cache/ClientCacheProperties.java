@@ -0,0 +1,15 @@
+package br.com.five.seven.food.infra.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "food.cache.client")
+public record ClientCacheProperties(long maximumSize, Duration ttl) {
+
+    public ClientCacheProperties {
+        if (ttl == null) {
+            ttl = Duration.ofSeconds(30);
+        }
+    }
+}
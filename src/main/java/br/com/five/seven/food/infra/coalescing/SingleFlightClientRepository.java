@@ -0,0 +1,185 @@
+package br.com.five.seven.food.infra.coalescing;
+
+import br.com.five.seven.food.domain.model.Client;
+import br.com.five.seven.food.domain.model.ClientCollectionState;
+import br.com.five.seven.food.domain.model.ClientDeleteResult;
+import br.com.five.seven.food.domain.model.ClientStats;
+import br.com.five.seven.food.domain.model.ClientUpsertResult;
+import br.com.five.seven.food.domain.model.ClientVersion;
+import br.com.five.seven.food.domain.repository.IClientRepository;
+import br.com.five.seven.food.infra.persistence.routing.ReadYourWrites;
+import br.com.five.seven.food.infra.utils.FoodUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+
+/**
+ * Lets concurrent {@link #findByCpf} calls for the same cpf share one lookup: the first caller queries the delegate
+ * and the others wait for its result, which each gets as its own copy. Nothing is kept once the lookup finishes, so
+ * this works with or without a cache in front.
+ * <p>
+ * A write to a cpf detaches the lookup in flight for it, so callers arriving after the write start a new one. Callers
+ * that joined before the write can still get the old row, as they would without coalescing; the write stamp in
+ * {@link br.com.five.seven.food.infra.cache.CachingClientRepository} keeps that row out of the cache. A request that
+ * already wrote never joins or leads a shared lookup, so read-your-writes still sends its read to the primary.
+ */
+public class SingleFlightClientRepository implements IClientRepository {
+
+    public static final String COUNTER_NAME = "food.client.lookup.single-flight";
+
+    private final IClientRepository delegate;
+    private final ConcurrentMap<String, CompletableFuture<Client>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executed;
+    private final Counter coalesced;
+    private final Counter bypassed;
+
+    public SingleFlightClientRepository(IClientRepository delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.executed = Counter.builder(COUNTER_NAME)
+                .description("Lookups by cpf, by whether they queried the database or joined one in flight")
+                .tag("result", "executed")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder(COUNTER_NAME)
+                .description("Lookups by cpf, by whether they queried the database or joined one in flight")
+                .tag("result", "coalesced")
+                .register(meterRegistry);
+        this.bypassed = Counter.builder(COUNTER_NAME)
+                .description("Lookups by cpf, by whether they queried the database or joined one in flight")
+                .tag("result", "bypassed")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ClientUpsertResult update(Client client, ClientVersion expected) {
+        try {
+            return delegate.update(client, expected);
+        } finally {
+            detach(client.getCpf());
+        }
+    }
+
+    @Override
+    public ClientUpsertResult upsert(Client client) {
+        try {
+            return delegate.upsert(client);
+        } finally {
+            detach(client.getCpf());
+        }
+    }
+
+    @Override
+    public List<ClientUpsertResult> upsertAll(List<Client> clients) {
+        try {
+            return delegate.upsertAll(clients);
+        } finally {
+            clients.forEach(client -> detach(client.getCpf()));
+        }
+    }
+
+    @Override
+    public List<Client> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Client> findPage(String afterId, int limit) {
+        return delegate.findPage(afterId, limit);
+    }
+
+    @Override
+    public List<Client> search(String query, String afterId, int limit) {
+        return delegate.search(query, afterId, limit);
+    }
+
+    @Override
+    public void streamAll(Consumer<Client> consumer) {
+        delegate.streamAll(consumer);
+    }
+
+    @Override
+    public ClientCollectionState collectionState() {
+        return delegate.collectionState();
+    }
+
+    @Override
+    public ClientStats clientStats() {
+        return delegate.clientStats();
+    }
+
+    @Override
+    public Client findByCpf(String cpf) {
+        if (ReadYourWrites.hasWritten()) {
+            bypassed.increment();
+            return delegate.findByCpf(cpf);
+        }
+        String key = FoodUtils.limparString(cpf);
+        CompletableFuture<Client> lookup = new CompletableFuture<>();
+        CompletableFuture<Client> running = inFlight.putIfAbsent(key, lookup);
+        if (running != null) {
+            coalesced.increment();
+            return copy(await(running));
+        }
+        executed.increment();
+        try {
+            Client client = delegate.findByCpf(cpf);
+            lookup.complete(client);
+            return client;
+        } catch (RuntimeException | Error e) {
+            lookup.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, lookup);
+        }
+    }
+
+    @Override
+    public boolean delete(String cpf) {
+        try {
+            return delegate.delete(cpf);
+        } finally {
+            detach(cpf);
+        }
+    }
+
+    @Override
+    public List<ClientDeleteResult> deleteAll(List<String> cpfs) {
+        try {
+            return delegate.deleteAll(cpfs);
+        } finally {
+            cpfs.forEach(this::detach);
+        }
+    }
+
+    @Override
+    public Client findById(String id) {
+        return delegate.findById(id);
+    }
+
+    private void detach(String cpf) {
+        inFlight.remove(FoodUtils.limparString(cpf));
+    }
+
+    private static Client await(CompletableFuture<Client> lookup) {
+        try {
+            return lookup.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private static Client copy(Client client) {
+        return client == null ? null : new Client(client);
+    }
+}
@@ -0,0 +1,13 @@
+package br.com.five.seven.food.infra.crac;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "food.checkpoint")
+public record CheckpointProperties(boolean enabled, int warmupRounds) {
+
+    public CheckpointProperties {
+        if (warmupRounds <= 0) {
+            warmupRounds = 200;
+        }
+    }
+}
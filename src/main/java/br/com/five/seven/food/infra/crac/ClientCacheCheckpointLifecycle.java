@@ -0,0 +1,38 @@
+package br.com.five.seven.food.infra.crac;
+
+import br.com.five.seven.food.infra.cache.CachingClientRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * Empties the client cache and Hibernate's second-level cache when the context stops, which includes the stop before a
+ * CRaC checkpoint, so a restored process never serves clients cached during warm-up.
+ */
+public class ClientCacheCheckpointLifecycle implements SmartLifecycle {
+
+    private final CachingClientRepository repository;
+    private final EntityManagerFactory entityManagerFactory;
+    private volatile boolean running;
+
+    public ClientCacheCheckpointLifecycle(CachingClientRepository repository, EntityManagerFactory entityManagerFactory) {
+        this.repository = repository;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        repository.invalidateAll();
+        entityManagerFactory.getCache().evictAll();
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
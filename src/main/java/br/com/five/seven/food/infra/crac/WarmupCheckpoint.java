@@ -0,0 +1,86 @@
+package br.com.five.seven.food.infra.crac;
+
+import br.com.five.seven.food.rest.response.ClientPageResponse;
+import br.com.five.seven.food.rest.response.ClientResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.crac.Core;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.RestClient;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opt-in ({@code food.checkpoint.enabled}): once the application is ready, sends synthetic read and validation
+ * requests to itself and then asks the JVM for a CRaC checkpoint. Spring stops the web server, the Hikari pool and
+ * the client cache before the checkpoint and starts them again after restore.
+ */
+@Slf4j
+public class WarmupCheckpoint implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final String INVALID_CLIENT = "{\"cpf\":\"00000000000\",\"name\":\"\",\"email\":\"warmup\"}";
+    private static final int PAGE_SIZE = 20;
+
+    @FunctionalInterface
+    interface Checkpointer {
+        void checkpointRestore() throws Exception;
+    }
+
+    private final CheckpointProperties properties;
+    private final RestClient.Builder restClientBuilder;
+    private final Checkpointer checkpointer;
+
+    public WarmupCheckpoint(CheckpointProperties properties, RestClient.Builder restClientBuilder) {
+        this(properties, restClientBuilder, Core::checkpointRestore);
+    }
+
+    WarmupCheckpoint(CheckpointProperties properties, RestClient.Builder restClientBuilder, Checkpointer checkpointer) {
+        this.properties = properties;
+        this.restClientBuilder = restClientBuilder;
+        this.checkpointer = checkpointer;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (!properties.enabled()) {
+            return;
+        }
+        String port = event.getApplicationContext().getEnvironment().getProperty("local.server.port", "8080");
+        long start = System.nanoTime();
+        warmup(restClientBuilder.baseUrl("http://localhost:" + port).build());
+        log.info("Warm-up finished: {} rounds in {} ms", properties.warmupRounds(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        try {
+            checkpointer.checkpointRestore();
+            log.info("Restored from checkpoint");
+        } catch (UnsupportedOperationException e) {
+            log.warn("This JVM does not support CRaC, continuing without a checkpoint");
+        } catch (Exception e) {
+            log.warn("Checkpoint failed, continuing without it", e);
+        }
+    }
+
+    void warmup(RestClient client) {
+        String cursor = null;
+        for (int round = 0; round < properties.warmupRounds(); round++) {
+            Optional<String> after = Optional.ofNullable(cursor);
+            ClientPageResponse page = client.get()
+                    .uri(uri -> uri.path("/v1/clients").queryParam("size", PAGE_SIZE).queryParamIfPresent("cursor", after).build())
+                    .retrieve()
+                    .body(ClientPageResponse.class);
+            if (page != null && page.getItems() != null) {
+                for (ClientResponse item : page.getItems()) {
+                    client.get().uri("/v1/clients/{cpf}", item.getCpf()).retrieve().toBodilessEntity();
+                }
+                cursor = page.getNextCursor();
+            }
+            client.post().uri("/v1/clients")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(INVALID_CLIENT)
+                    .exchange((request, response) -> response.getStatusCode());
+            client.get().uri("/health").retrieve().toBodilessEntity();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package br.com.five.seven.food.infra.exceptions;
+
+import jakarta.xml.bind.ValidationException;
+
+public class InvalidCursorException extends ValidationException {
+
+    public InvalidCursorException(String msg) {
+        super(msg);
+    }
+}
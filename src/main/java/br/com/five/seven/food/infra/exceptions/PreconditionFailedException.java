@@ -0,0 +1,8 @@
+package br.com.five.seven.food.infra.exceptions;
+
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String msg) {
+        super(msg);
+    }
+}
@@ -0,0 +1,13 @@
+package br.com.five.seven.food.infra.gate;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "food.db-gate")
+public record DbGateProperties(@DefaultValue("false") boolean enabled,
+                               @DefaultValue("0") int permits,
+                               @DefaultValue("30s") Duration maxWait,
+                               @DefaultValue("1") int exportPermits) {
+}
@@ -0,0 +1,8 @@
+package br.com.five.seven.food.infra.gate;
+
+public class DbGateTimeoutException extends RuntimeException {
+
+    public DbGateTimeoutException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,157 @@
+package br.com.five.seven.food.infra.gate;
+
+import br.com.five.seven.food.domain.model.Client;
+import br.com.five.seven.food.domain.model.ClientCollectionState;
+import br.com.five.seven.food.domain.model.ClientDeleteResult;
+import br.com.five.seven.food.domain.model.ClientStats;
+import br.com.five.seven.food.domain.model.ClientUpsertResult;
+import br.com.five.seven.food.domain.model.ClientVersion;
+import br.com.five.seven.food.domain.repository.IClientRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+public class GatedClientRepository implements IClientRepository {
+
+    private final IClientRepository delegate;
+    private final Semaphore semaphore;
+    private final Semaphore exportSemaphore;
+    private final int permits;
+    private final long maxWaitNanos;
+    private final Timer waitTimer;
+    private final Counter timeouts;
+
+    public GatedClientRepository(IClientRepository delegate, int permits, DbGateProperties properties, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.permits = permits;
+        this.semaphore = new Semaphore(permits, true);
+        this.exportSemaphore = new Semaphore(properties.exportPermits(), true);
+        this.maxWaitNanos = properties.maxWait().toNanos();
+        this.waitTimer = Timer.builder("food.db.gate.wait")
+                .description("Time spent waiting for a database permit")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.timeouts = Counter.builder("food.db.gate.timeouts")
+                .description("Requests that gave up waiting for a database permit")
+                .register(meterRegistry);
+        Gauge.builder("food.db.gate.waiting", semaphore, Semaphore::getQueueLength)
+                .description("Threads queued for a database permit")
+                .register(meterRegistry);
+        Gauge.builder("food.db.gate.active", semaphore, s -> permits - s.availablePermits())
+                .description("Database permits in use")
+                .register(meterRegistry);
+        Gauge.builder("food.db.gate.permits", () -> permits)
+                .description("Database permits configured")
+                .register(meterRegistry);
+        Gauge.builder("food.db.gate.exports.active", exportSemaphore, s -> properties.exportPermits() - s.availablePermits())
+                .description("Export permits in use")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ClientUpsertResult update(Client client, ClientVersion expected) {
+        return gated(() -> delegate.update(client, expected));
+    }
+
+    @Override
+    public ClientUpsertResult upsert(Client client) {
+        return gated(() -> delegate.upsert(client));
+    }
+
+    @Override
+    public List<ClientUpsertResult> upsertAll(List<Client> clients) {
+        return gated(() -> delegate.upsertAll(clients));
+    }
+
+    @Override
+    public List<Client> findAll() {
+        return gated(delegate::findAll);
+    }
+
+    @Override
+    public List<Client> findPage(String afterId, int limit) {
+        return gated(() -> delegate.findPage(afterId, limit));
+    }
+
+    @Override
+    public List<Client> search(String query, String afterId, int limit) {
+        return gated(() -> delegate.search(query, afterId, limit));
+    }
+
+    // An export keeps its connection until the last row is written, so it takes one of its own
+    // permits instead of starving the short calls of theirs
+    @Override
+    public void streamAll(Consumer<Client> consumer) {
+        gated(exportSemaphore, () -> {
+            delegate.streamAll(consumer);
+            return null;
+        });
+    }
+
+    @Override
+    public ClientCollectionState collectionState() {
+        return gated(delegate::collectionState);
+    }
+
+    @Override
+    public ClientStats clientStats() {
+        return gated(delegate::clientStats);
+    }
+
+    @Override
+    public Client findByCpf(String cpf) {
+        return gated(() -> delegate.findByCpf(cpf));
+    }
+
+    @Override
+    public boolean delete(String cpf) {
+        return gated(() -> delegate.delete(cpf));
+    }
+
+    @Override
+    public List<ClientDeleteResult> deleteAll(List<String> cpfs) {
+        return gated(() -> delegate.deleteAll(cpfs));
+    }
+
+    @Override
+    public Client findById(String id) {
+        return gated(() -> delegate.findById(id));
+    }
+
+    private <T> T gated(Supplier<T> call) {
+        return gated(semaphore, call);
+    }
+
+    private <T> T gated(Semaphore semaphore, Supplier<T> call) {
+        acquire(semaphore);
+        try {
+            return call.get();
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    private void acquire(Semaphore semaphore) {
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = semaphore.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DbGateTimeoutException("Interrupted while waiting for a database permit");
+        } finally {
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (!acquired) {
+            timeouts.increment();
+            throw new DbGateTimeoutException("Timed out waiting for a database permit");
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package br.com.five.seven.food.infra.handler;
 
+import br.com.five.seven.food.infra.exceptions.InvalidCursorException;
+import br.com.five.seven.food.infra.exceptions.PreconditionFailedException;
+import br.com.five.seven.food.infra.gate.DbGateTimeoutException;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.xml.bind.ValidationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
@@ -43,6 +48,58 @@ public class HandlerAdvice {
         return problemDetail;
     }
 
+    @ExceptionHandler({ValidationException.class, MissingServletRequestParameterException.class})
+    public ProblemDetail handleBadRequestException(Exception ex, HttpServletRequest request) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+                HttpStatus.BAD_REQUEST,
+                ex.getMessage()
+        );
+        problemDetail.setTitle("Erro de Validação");
+        problemDetail.setProperty("path", request.getRequestURL().toString());
+        problemDetail.setProperty("error", ex.getClass().getSimpleName());
+
+        return problemDetail;
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ProblemDetail handleInvalidCursorException(InvalidCursorException ex, HttpServletRequest request) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+                HttpStatus.BAD_REQUEST,
+                ex.getMessage()
+        );
+        problemDetail.setTitle("Cursor Inválido");
+        problemDetail.setProperty("path", request.getRequestURL().toString());
+        problemDetail.setProperty("error", ex.getClass().getSimpleName());
+
+        return problemDetail;
+    }
+
+    @ExceptionHandler(DbGateTimeoutException.class)
+    public ProblemDetail handleDbGateTimeoutException(DbGateTimeoutException ex, HttpServletRequest request) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                ex.getMessage()
+        );
+        problemDetail.setTitle("Serviço Indisponível");
+        problemDetail.setProperty("path", request.getRequestURL().toString());
+        problemDetail.setProperty("error", ex.getClass().getSimpleName());
+
+        return problemDetail;
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ProblemDetail handlePreconditionFailedException(PreconditionFailedException ex, HttpServletRequest request) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+                HttpStatus.PRECONDITION_FAILED,
+                ex.getMessage()
+        );
+        problemDetail.setTitle("Pré-condição Falhou");
+        problemDetail.setProperty("path", request.getRequestURL().toString());
+        problemDetail.setProperty("error", ex.getClass().getSimpleName());
+
+        return problemDetail;
+    }
+
     private String buildValidationErrorMessage(List<FieldError> fieldErrors) {
         return fieldErrors.stream()
                 .map(error -> String.format("Campo '%s': %s", error.getField(), error.getDefaultMessage()))
@@ -0,0 +1,158 @@
+package br.com.five.seven.food.infra.health;
+
+import br.com.five.seven.food.infra.health.HealthSnapshot.ProbeStatus;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.context.SmartLifecycle;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Checks database reachability and pool saturation every {@code food.health.interval} on its own threads and keeps
+ * the latest result, so probe requests only read a volatile field. The database call runs on a separate thread and
+ * is abandoned after {@code food.health.timeout}, so a hung connection can make readiness fail but never stops the
+ * snapshot from being refreshed; liveness only fails when the snapshot itself goes stale.
+ * <p>
+ * A saturated pool is only reported in the snapshot: failing readiness for it would take every replica out of the
+ * Service at the moment they are all busy, and the spike would turn into an outage.
+ */
+public class HealthProbe implements SmartLifecycle {
+
+    private final DataSource dataSource;
+    private final HikariDataSource hikari;
+    private final HealthProperties properties;
+    private final Clock clock;
+    private final ExecutorService checker = Executors.newSingleThreadExecutor(daemon("health-probe-db"));
+
+    private volatile HealthSnapshot snapshot;
+    private ScheduledExecutorService scheduler;
+    private Future<Boolean> pending;
+
+    public HealthProbe(DataSource dataSource, HealthProperties properties) {
+        this(dataSource, properties, Clock.systemUTC());
+    }
+
+    HealthProbe(DataSource dataSource, HealthProperties properties, Clock clock) {
+        this.dataSource = dataSource;
+        this.hikari = unwrapHikari(dataSource);
+        this.properties = properties;
+        this.clock = clock;
+        this.snapshot = HealthSnapshot.starting(clock.instant());
+    }
+
+    public HealthSnapshot snapshot() {
+        return snapshot;
+    }
+
+    public boolean isLive(HealthSnapshot snapshot) {
+        return !isStale(snapshot);
+    }
+
+    public boolean isReady(HealthSnapshot snapshot) {
+        return !isStale(snapshot) && snapshot.database() == ProbeStatus.UP;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        snapshot = HealthSnapshot.starting(clock.instant());
+        scheduler = Executors.newSingleThreadScheduledExecutor(daemon("health-probe"));
+        scheduler.scheduleWithFixedDelay(this::probe, 0, properties.interval().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+
+    void probe() {
+        HikariPoolMXBean pool = hikari == null ? null : hikari.getHikariPoolMXBean();
+        int active = pool == null ? 0 : pool.getActiveConnections();
+        int waiting = pool == null ? 0 : pool.getThreadsAwaitingConnection();
+        int max = hikari == null ? 0 : hikari.getMaximumPoolSize();
+        ProbeStatus poolStatus = pool == null ? ProbeStatus.UNKNOWN : ProbeStatus.UP;
+
+        if (pool != null && active >= max && waiting > 0) {
+            // A check now would queue behind the requests; keep the last database result
+            snapshot = new HealthSnapshot(snapshot.database(), ProbeStatus.SATURATED, active, max, waiting, clock.instant(),
+                    waiting + " threads waiting for a connection");
+            return;
+        }
+
+        ProbeStatus database;
+        String detail = null;
+        if (pending != null && !pending.isDone()) {
+            database = ProbeStatus.DOWN;
+            detail = "previous database check still running";
+        } else {
+            pending = checker.submit(this::databaseReachable);
+            try {
+                database = pending.get(properties.timeout().toMillis(), TimeUnit.MILLISECONDS) ? ProbeStatus.UP : ProbeStatus.DOWN;
+                if (database == ProbeStatus.DOWN) {
+                    detail = "connection is not valid";
+                }
+            } catch (TimeoutException e) {
+                database = ProbeStatus.DOWN;
+                detail = "database check timed out after " + properties.timeout().toMillis() + " ms";
+            } catch (ExecutionException e) {
+                database = ProbeStatus.DOWN;
+                detail = e.getCause().getMessage();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        snapshot = new HealthSnapshot(database, poolStatus, active, max, waiting, clock.instant(), detail);
+    }
+
+    private boolean databaseReachable() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.isValid((int) Math.max(1, properties.timeout().toSeconds()));
+        }
+    }
+
+    private boolean isStale(HealthSnapshot snapshot) {
+        return Duration.between(snapshot.checkedAt(), clock.instant()).compareTo(properties.staleAfter()) > 0;
+    }
+
+    private static HikariDataSource unwrapHikari(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class);
+            }
+        } catch (SQLException e) {
+            return null;
+        }
+        return null;
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,21 @@
+package br.com.five.seven.food.infra.health;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "food.health")
+public record HealthProperties(Duration interval, Duration timeout, Duration staleAfter) {
+
+    public HealthProperties {
+        if (interval == null) {
+            interval = Duration.ofSeconds(5);
+        }
+        if (timeout == null) {
+            timeout = Duration.ofSeconds(2);
+        }
+        if (staleAfter == null) {
+            staleAfter = Duration.ofSeconds(30);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package br.com.five.seven.food.infra.health;
+
+import java.time.Instant;
+
+public record HealthSnapshot(ProbeStatus database, ProbeStatus pool, int activeConnections, int maxConnections,
+                             int waitingThreads, Instant checkedAt, String detail) {
+
+    public enum ProbeStatus {UP, DOWN, SATURATED, UNKNOWN}
+
+    static HealthSnapshot starting(Instant now) {
+        return new HealthSnapshot(ProbeStatus.UNKNOWN, ProbeStatus.UNKNOWN, 0, 0, 0, now, "first check pending");
+    }
+}
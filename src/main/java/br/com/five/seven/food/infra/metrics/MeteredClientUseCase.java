@@ -0,0 +1,135 @@
+package br.com.five.seven.food.infra.metrics;
+
+import br.com.five.seven.food.application.ports.in.ClientUseCase;
+import br.com.five.seven.food.domain.model.Client;
+import br.com.five.seven.food.domain.model.ClientCollectionState;
+import br.com.five.seven.food.domain.model.ClientDeleteResult;
+import br.com.five.seven.food.domain.model.ClientStats;
+import br.com.five.seven.food.domain.model.ClientPage;
+import br.com.five.seven.food.domain.model.ClientUpsertResult;
+import br.com.five.seven.food.domain.model.ClientVersion;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.xml.bind.ValidationException;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+public class MeteredClientUseCase implements ClientUseCase {
+
+    public static final String TIMER_NAME = "food.client.usecase";
+    public static final String ERRORS_NAME = "food.client.usecase.errors";
+    public static final String STATEMENTS_NAME = "food.client.usecase.statements";
+
+    private final ClientUseCase delegate;
+    private final MeterRegistry meterRegistry;
+
+    public MeteredClientUseCase(ClientUseCase delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Client createClient(Client client) throws ValidationException {
+        return record("createClient", () -> delegate.createClient(client));
+    }
+
+    @Override
+    public List<ClientUpsertResult> upsertAll(List<Client> clients) throws ValidationException {
+        return record("upsertAll", () -> delegate.upsertAll(clients));
+    }
+
+    @Override
+    public List<Client> findAll() {
+        return record("findAll", delegate::findAll);
+    }
+
+    @Override
+    public ClientPage findPage(String cursor, int size) throws ValidationException {
+        return record("findPage", () -> delegate.findPage(cursor, size));
+    }
+
+    @Override
+    public ClientPage search(String query, String cursor, int size) throws ValidationException {
+        return record("search", () -> delegate.search(query, cursor, size));
+    }
+
+    @Override
+    public void exportAll(Consumer<Client> consumer) {
+        record("exportAll", () -> {
+            delegate.exportAll(consumer);
+            return null;
+        });
+    }
+
+    @Override
+    public ClientCollectionState collectionState() {
+        return record("collectionState", delegate::collectionState);
+    }
+
+    @Override
+    public ClientStats clientStats() {
+        return record("clientStats", delegate::clientStats);
+    }
+
+    @Override
+    public Client findByCpf(String cpf) {
+        return record("findByCpf", () -> delegate.findByCpf(cpf));
+    }
+
+    @Override
+    public Client update(String cpf, Client client, ClientVersion expected) throws ValidationException {
+        return record("update", () -> delegate.update(cpf, client, expected));
+    }
+
+    @Override
+    public void delete(String cpf) {
+        record("delete", () -> {
+            delegate.delete(cpf);
+            return null;
+        });
+    }
+
+    @Override
+    public List<ClientDeleteResult> deleteAll(List<String> cpfs) throws ValidationException {
+        return record("deleteAll", () -> delegate.deleteAll(cpfs));
+    }
+
+    private <T, E extends Exception> T record(String operation, Call<T, E> call) throws E {
+        long statementsBefore = StatementCounter.current();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return call.call();
+        } catch (Exception e) {
+            exception = e.getClass().getSimpleName();
+            Counter.builder(ERRORS_NAME)
+                    .description("Client use case failures by exception type")
+                    .tag("operation", operation)
+                    .tag("exception", exception)
+                    .register(meterRegistry)
+                    .increment();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(TIMER_NAME)
+                    .description("Client use case latency")
+                    .tag("operation", operation)
+                    .tag("exception", exception)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+            DistributionSummary.builder(STATEMENTS_NAME)
+                    .description("JDBC statements executed per client use case call")
+                    .tag("operation", operation)
+                    .register(meterRegistry)
+                    .record(StatementCounter.current() - statementsBefore);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Call<T, E extends Exception> {
+        T call() throws E;
+    }
+}
@@ -0,0 +1,38 @@
+package br.com.five.seven.food.infra.persistence.converter;
+
+import br.com.five.seven.food.infra.utils.FoodUtils;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter
+public class CpfConverter implements AttributeConverter<String, Long> {
+
+    private static final int CPF_LENGTH = 11;
+    private static final String ZEROS = "00000000000";
+
+    @Override
+    public Long convertToDatabaseColumn(String cpf) {
+        return toLong(cpf);
+    }
+
+    @Override
+    public String convertToEntityAttribute(Long cpf) {
+        return toCpf(cpf);
+    }
+
+    public static Long toLong(String cpf) {
+        String digits = FoodUtils.limparString(cpf);
+        if (digits.isEmpty() || digits.length() > CPF_LENGTH) {
+            return null;
+        }
+        return Long.parseLong(digits);
+    }
+
+    public static String toCpf(Long cpf) {
+        if (cpf == null) {
+            return null;
+        }
+        String digits = Long.toString(cpf);
+        return digits.length() >= CPF_LENGTH ? digits : ZEROS.substring(digits.length()) + digits;
+    }
+}
@@ -1,22 +1,34 @@
 package br.com.five.seven.food.infra.persistence.entity;
 
 import br.com.five.seven.food.domain.model.Client;
+import br.com.five.seven.food.infra.persistence.converter.CpfConverter;
+import br.com.five.seven.food.infra.persistence.id.UuidV7;
+import br.com.five.seven.food.infra.persistence.id.UuidV7Id;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Data
 @Entity(name = "tb_client")
 @AllArgsConstructor
 @NoArgsConstructor
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "client")
+@NaturalIdCache(region = "client-by-cpf")
 public class ClientEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    private String id;
+    @UuidV7Id
+    private UUID id;
+    @NaturalId(mutable = true)
+    @Convert(converter = CpfConverter.class)
     private String cpf;
     private String name;
     private String email;
@@ -25,15 +37,19 @@ public class ClientEntity {
     private LocalDateTime createdAt;
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+    // Bumped by the SQL of every write (upsert and conditional update), never by Hibernate
+    @Column(insertable = false, updatable = false)
+    private Long version;
 
     public ClientEntity(Client client) {
-        this.id = client.getId();
+        this.id = UuidV7.parse(client.getId());
         this.cpf = client.getCpf();
         this.name = client.getName();
         this.email = client.getEmail();
         this.phone = client.getPhone();
         this.createdAt = client.getCreatedAt();
         this.updatedAt = client.getUpdatedAt();
+        this.version = client.getVersion();
     }
 
 }
@@ -0,0 +1,184 @@
+package br.com.five.seven.food.infra.persistence.repository;
+
+import br.com.five.seven.food.domain.model.Client;
+import br.com.five.seven.food.domain.model.ClientCollectionState;
+import br.com.five.seven.food.domain.model.ClientDeleteResult;
+import br.com.five.seven.food.domain.model.ClientStats;
+import br.com.five.seven.food.domain.model.ClientUpsertResult;
+import br.com.five.seven.food.domain.model.ClientVersion;
+import br.com.five.seven.food.infra.persistence.converter.CpfConverter;
+import br.com.five.seven.food.infra.persistence.id.UuidV7;
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+@Repository
+@AllArgsConstructor
+public class ClientJdbcRepository {
+
+    public static final int CHUNK_SIZE = 500;
+
+    private static final String COLUMNS = "id, cpf, name, email, phone, created_at, updated_at, version";
+
+    // Subqueries see the table as it was before the statement, so this is the value the write replaced
+    private static final String PREVIOUS_UPDATED_AT =
+            "(SELECT previous.updated_at FROM tb_client previous WHERE previous.id = tb_client.id) AS previous_updated_at";
+
+    private static final String UPSERT_PREFIX = "INSERT INTO tb_client (id, cpf, name, email, phone, created_at) VALUES ";
+
+    private static final String UPSERT_SUFFIX = " ON CONFLICT (cpf) DO UPDATE SET " +
+            "name = EXCLUDED.name, email = EXCLUDED.email, phone = EXCLUDED.phone, updated_at = EXCLUDED.created_at, " +
+            "version = tb_client.version + 1 " +
+            "RETURNING " + COLUMNS + ", (xmax = 0) AS inserted, " + PREVIOUS_UPDATED_AT;
+
+    private static final String UPDATE_SQL = "UPDATE tb_client SET name = ?, email = ?, phone = ?, updated_at = ?, " +
+            "version = version + 1 WHERE cpf = ?";
+
+    private static final String UPDATE_RETURNING = " RETURNING " + COLUMNS + ", " + PREVIOUS_UPDATED_AT;
+
+    private static final String DELETE_SQL = "DELETE FROM tb_client WHERE cpf = ANY(?) RETURNING id, cpf, created_at, updated_at";
+
+    private static final String COLLECTION_STATE_SQL =
+            "SELECT count(*) AS total, max(coalesce(updated_at, created_at)) AS last_modified FROM tb_client";
+
+    private static final String TOTAL_SQL = "SELECT count(*) FROM tb_client";
+
+    private static final String CREATED_PER_DAY_SQL = "SELECT cast(created_at AS date) AS bucket, count(*) AS total " +
+            "FROM tb_client WHERE created_at >= ? GROUP BY 1";
+
+    private static final String UPDATED_PER_MINUTE_SQL = "SELECT date_trunc('minute', updated_at) AS bucket, " +
+            "count(*) AS total FROM tb_client WHERE updated_at >= ? GROUP BY 1";
+
+    private static final RowMapper<ClientUpsertResult> UPSERT_ROW_MAPPER = (rs, rowNum) -> ClientUpsertResult.stored(
+            mapClient(rs, rowNum), rs.getBoolean("inserted"), rs.getObject("previous_updated_at", LocalDateTime.class));
+
+    private static final RowMapper<ClientUpsertResult> UPDATE_ROW_MAPPER = (rs, rowNum) -> ClientUpsertResult.stored(
+            mapClient(rs, rowNum), false, rs.getObject("previous_updated_at", LocalDateTime.class));
+
+    private static final RowMapper<ClientDeleteResult> DELETE_ROW_MAPPER = (rs, rowNum) ->
+            ClientDeleteResult.deleted(CpfConverter.toCpf(rs.getObject("cpf", Long.class)), rs.getString("id"),
+                    rs.getObject("created_at", LocalDateTime.class), rs.getObject("updated_at", LocalDateTime.class));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ClientUpsertResult upsert(Client client) {
+        return jdbcTemplate.query(upsertSql(1), ps -> bindUpsert(ps, List.of(client)), UPSERT_ROW_MAPPER).get(0);
+    }
+
+    public List<ClientUpsertResult> upsertAll(List<Client> clients) {
+        List<ClientUpsertResult> results = new ArrayList<>(clients.size());
+        for (int from = 0; from < clients.size(); from += CHUNK_SIZE) {
+            List<Client> chunk = clients.subList(from, Math.min(from + CHUNK_SIZE, clients.size()));
+            results.addAll(jdbcTemplate.query(upsertSql(chunk.size()), ps -> bindUpsert(ps, chunk), UPSERT_ROW_MAPPER));
+        }
+        return results;
+    }
+
+    /**
+     * Updates the client with {@code client.getCpf()} in one statement, only if it still has the expected id and
+     * version when one is given. Returns {@code null} when no row matched.
+     */
+    public ClientUpsertResult update(Client client, ClientVersion expected) {
+        String sql = UPDATE_SQL + (expected == null ? "" : " AND id = ? AND version = ?") + UPDATE_RETURNING;
+        List<ClientUpsertResult> updated = jdbcTemplate.query(sql, ps -> {
+            ps.setString(1, client.getName());
+            ps.setString(2, client.getEmail());
+            ps.setString(3, client.getPhone());
+            ps.setTimestamp(4, Timestamp.valueOf(client.getUpdatedAt()));
+            ps.setObject(5, CpfConverter.toLong(client.getCpf()), Types.BIGINT);
+            if (expected != null) {
+                ps.setObject(6, UuidV7.parse(expected.getId()));
+                ps.setLong(7, expected.getVersion());
+            }
+        }, UPDATE_ROW_MAPPER);
+        return updated.isEmpty() ? null : updated.get(0);
+    }
+
+    /**
+     * Deletes the clients with the given CPFs, one statement per chunk, and returns only the rows that existed.
+     */
+    public List<ClientDeleteResult> deleteAll(List<String> cpfs) {
+        List<ClientDeleteResult> results = new ArrayList<>(cpfs.size());
+        for (int from = 0; from < cpfs.size(); from += CHUNK_SIZE) {
+            Long[] chunk = cpfs.subList(from, Math.min(from + CHUNK_SIZE, cpfs.size())).stream()
+                    .map(CpfConverter::toLong)
+                    .toArray(Long[]::new);
+            results.addAll(jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(DELETE_SQL);
+                ps.setArray(1, connection.createArrayOf("bigint", chunk));
+                return ps;
+            }, DELETE_ROW_MAPPER));
+        }
+        return results;
+    }
+
+    public ClientCollectionState collectionState() {
+        return jdbcTemplate.queryForObject(COLLECTION_STATE_SQL, (rs, rowNum) ->
+                new ClientCollectionState(rs.getLong("total"), rs.getObject("last_modified", LocalDateTime.class)));
+    }
+
+    /**
+     * Counts every client, the ones created per day and the ones updated per minute in the windows
+     * {@link ClientStats} covers. All three scan the table, so this is only meant for periodic reconciliation.
+     */
+    public ClientStats clientStats(LocalDateTime now) {
+        Long total = jdbcTemplate.queryForObject(TOTAL_SQL, Long.class);
+        SortedMap<LocalDate, Long> createdPerDay = new TreeMap<>();
+        jdbcTemplate.query(CREATED_PER_DAY_SQL, (RowCallbackHandler) rs ->
+                        createdPerDay.put(rs.getObject("bucket", LocalDate.class), rs.getLong("total")),
+                Timestamp.valueOf(ClientStats.firstDay(now).atStartOfDay()));
+        SortedMap<LocalDateTime, Long> updatedPerMinute = new TreeMap<>();
+        jdbcTemplate.query(UPDATED_PER_MINUTE_SQL, (RowCallbackHandler) rs ->
+                        updatedPerMinute.put(rs.getObject("bucket", LocalDateTime.class), rs.getLong("total")),
+                Timestamp.valueOf(ClientStats.firstMinute(now)));
+        return new ClientStats(total == null ? 0 : total, createdPerDay, updatedPerMinute, now);
+    }
+
+    private static String upsertSql(int rows) {
+        StringBuilder sql = new StringBuilder(UPSERT_PREFIX.length() + UPSERT_SUFFIX.length() + rows * 22);
+        sql.append(UPSERT_PREFIX);
+        for (int i = 0; i < rows; i++) {
+            sql.append(i == 0 ? "" : ", ").append("(?, ?, ?, ?, ?, ?)");
+        }
+        return sql.append(UPSERT_SUFFIX).toString();
+    }
+
+    private static void bindUpsert(PreparedStatement ps, List<Client> clients) throws SQLException {
+        int index = 1;
+        for (Client client : clients) {
+            ps.setObject(index++, UuidV7.next());
+            ps.setObject(index++, CpfConverter.toLong(client.getCpf()), Types.BIGINT);
+            ps.setString(index++, client.getName());
+            ps.setString(index++, client.getEmail());
+            ps.setString(index++, client.getPhone());
+            ps.setTimestamp(index++, Timestamp.valueOf(client.getCreatedAt()));
+        }
+    }
+
+    private static Client mapClient(ResultSet rs, int rowNum) throws SQLException {
+        Client client = new Client(
+                rs.getString("id"),
+                CpfConverter.toCpf(rs.getObject("cpf", Long.class)),
+                rs.getString("name"),
+                rs.getString("email"),
+                rs.getString("phone"));
+        client.setCreatedAt(rs.getObject("created_at", LocalDateTime.class));
+        client.setUpdatedAt(rs.getObject("updated_at", LocalDateTime.class));
+        client.setVersion(rs.getLong("version"));
+        return client;
+    }
+}
@@ -1,54 +1,223 @@
 package br.com.five.seven.food.infra.persistence.repository;
 
 import br.com.five.seven.food.domain.model.Client;
+import br.com.five.seven.food.domain.model.ClientCollectionState;
+import br.com.five.seven.food.domain.model.ClientDeleteResult;
+import br.com.five.seven.food.domain.model.ClientStats;
+import br.com.five.seven.food.domain.model.ClientUpsertResult;
+import br.com.five.seven.food.domain.model.ClientVersion;
 import br.com.five.seven.food.domain.repository.IClientRepository;
+import br.com.five.seven.food.infra.persistence.converter.CpfConverter;
 import br.com.five.seven.food.infra.persistence.entity.ClientEntity;
+import br.com.five.seven.food.infra.persistence.id.UuidV7;
 import br.com.five.seven.food.rest.mapper.ClientMapper;
-import jakarta.transaction.Transactional;
+import jakarta.persistence.EntityManager;
 import lombok.AllArgsConstructor;
+import org.hibernate.Session;
+import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Repository
 @AllArgsConstructor
 public class ClientRepositoryAdapterImpl implements IClientRepository {
 
+    private static final UUID FIRST_ID = new UUID(0, 0);
+
     private final ClienteRepository clientRepository;
     private final ClientMapper clientMapper;
+    private final EntityManager entityManager;
+    private final ClientJdbcRepository clientJdbcRepository;
+
+    @Transactional
+    @Override
+    public ClientUpsertResult update(Client client, ClientVersion expected) {
+        ClientUpsertResult updated = clientJdbcRepository.update(client, expected);
+        if (updated != null) {
+            evictFromSecondLevelCache(List.of(updated));
+        }
+        return updated;
+    }
 
     @Transactional
     @Override
-    public Client save(Client client) {
-        ClientEntity clientEntity = new ClientEntity(client);
-        ClientEntity savedEntity = clientRepository.save(clientEntity);
-        return clientMapper.entityToDomain(savedEntity);
+    public ClientUpsertResult upsert(Client client) {
+        ClientUpsertResult result = clientJdbcRepository.upsert(client);
+        evictFromSecondLevelCache(List.of(result));
+        return result;
     }
 
+    @Transactional
+    @Override
+    public List<ClientUpsertResult> upsertAll(List<Client> clients) {
+        List<ClientUpsertResult> results = clientJdbcRepository.upsertAll(clients);
+        evictFromSecondLevelCache(results);
+        return results;
+    }
+
+    @Transactional(readOnly = true)
     @Override
     public List<Client> findAll() {
-        return clientRepository.findAll().stream()
-                .map(clientMapper::entityToDomain)
-                .collect(Collectors.toList());
+        return clientRepository.findAllClients();
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<Client> findPage(String afterId, int limit) {
+        UUID after = after(afterId);
+        if (after == null) {
+            return List.of();
+        }
+        return clientRepository.findClientsAfter(after, Limit.of(limit));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<Client> search(String query, String afterId, int limit) {
+        UUID after = after(afterId);
+        if (after == null) {
+            return List.of();
+        }
+        clientRepository.forceCustomPlans();
+        return clientRepository.searchClientsAfter(containsPattern(query), after, Limit.of(limit));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public void streamAll(Consumer<Client> consumer) {
+        try (Stream<Client> clients = clientRepository.streamAllClients()) {
+            clients.forEach(consumer);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public ClientCollectionState collectionState() {
+        return clientJdbcRepository.collectionState();
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public ClientStats clientStats() {
+        return clientJdbcRepository.clientStats(LocalDateTime.now());
     }
 
+    // Not read-only so it reads the primary: what it loads fills the second-level and application caches, and a row
+    // from a lagging replica would stay there for the whole TTL after the write that replaced it
+    @Transactional
     @Override
     public Client findByCpf(String cpf) {
-        Optional<ClientEntity> entity = clientRepository.findByCpf(cpf);
-        return entity.map(clientMapper::entityToDomain).orElse(null);
+        ClientEntity entity = loadByCpf(cpf);
+        return entity == null ? null : clientMapper.entityToDomain(entity);
     }
 
+    @Transactional
     @Override
-    public void delete(String cpf) {
-        Optional<ClientEntity> entity = clientRepository.findByCpf(cpf);
-        entity.ifPresent(clientRepository::delete);
+    public boolean delete(String cpf) {
+        Long number = CpfConverter.toLong(cpf);
+        return number != null && !deleteAll(List.of(CpfConverter.toCpf(number))).isEmpty();
     }
 
+    @Transactional
+    @Override
+    public List<ClientDeleteResult> deleteAll(List<String> cpfs) {
+        List<ClientDeleteResult> deleted = clientJdbcRepository.deleteAll(cpfs);
+        evictFromSecondLevelCache(
+                deleted.stream().map(result -> UuidV7.parse(result.getId())).filter(Objects::nonNull).toList(),
+                deleted.stream().map(ClientDeleteResult::getCpf).toList());
+        return deleted;
+    }
+
+    // Reads the primary for the same reason as findByCpf
+    @Transactional
     @Override
     public Client findById(String id) {
-        Optional<ClientEntity> entity = clientRepository.findById(id);
+        UUID uuid = UuidV7.parse(id);
+        if (uuid == null) {
+            return null;
+        }
+        Optional<ClientEntity> entity = clientRepository.findById(uuid);
         return entity.map(clientMapper::entityToDomain).orElse(null);
     }
+
+    // Null for a cursor that is not a UUID: no id can follow it
+    private static UUID after(String afterId) {
+        return afterId == null || afterId.isEmpty() ? FIRST_ID : UuidV7.parse(afterId);
+    }
+
+    private static String containsPattern(String query) {
+        String escaped = query.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    // Natural-id lookup: the CPF -> id and id -> entity steps are both served by the second-level cache when warm
+    private ClientEntity loadByCpf(String cpf) {
+        Long number = CpfConverter.toLong(cpf);
+        if (number == null) {
+            return null;
+        }
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(ClientEntity.class)
+                .load(CpfConverter.toCpf(number));
+    }
+
+    private void evictFromSecondLevelCache(List<ClientUpsertResult> results) {
+        evictFromSecondLevelCache(results.stream()
+                .filter(result -> result.getClient() != null)
+                .map(result -> UuidV7.parse(result.getClient().getId()))
+                .filter(Objects::nonNull)
+                .toList(), List.of());
+    }
+
+    // JDBC writes bypass Hibernate, so the cached entities (and, for deletes, the CPF -> id mappings) are evicted by
+    // hand, again after commit so a concurrent read cannot put the old row back in the meantime
+    private void evictFromSecondLevelCache(List<UUID> ids, List<String> naturalIds) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        Runnable evictNaturalIds = naturalIdEviction(naturalIds);
+        Runnable evict = () -> {
+            ids.forEach(id -> entityManager.getEntityManagerFactory().getCache().evict(ClientEntity.class, id));
+            evictNaturalIds.run();
+        };
+        evict.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        }
+    }
+
+    // Natural-id cache keys need the session, so they are built now rather than after commit
+    private Runnable naturalIdEviction(List<String> cpfs) {
+        if (cpfs.isEmpty()) {
+            return () -> {
+            };
+        }
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(ClientEntity.class);
+        NaturalIdDataAccess access = persister.getNaturalIdCacheAccessStrategy();
+        List<Object> keys = cpfs.stream().map(cpf -> access.generateCacheKey(cpf, persister, session)).toList();
+        return () -> keys.forEach(access::evict);
+    }
 }
@@ -1,11 +1,41 @@
 package br.com.five.seven.food.infra.persistence.repository;
 
+import br.com.five.seven.food.domain.model.Client;
 import br.com.five.seven.food.infra.persistence.entity.ClientEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
-import java.util.Optional;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface ClienteRepository extends JpaRepository<ClientEntity, String> {
+public interface ClienteRepository extends JpaRepository<ClientEntity, UUID> {
 
-    Optional<ClientEntity> findByCpf(String cpf);
+    // Read paths select straight into Client: no managed entity, persistence context entry or second-level cache put
+    String CLIENT_PROJECTION = "select new br.com.five.seven.food.domain.model.Client(cast(c.id as String), c.cpf, " +
+            "c.name, c.email, c.phone, c.createdAt, c.updatedAt, c.version) from tb_client c";
+
+    @Query(CLIENT_PROJECTION)
+    List<Client> findAllClients();
+
+    @Query(CLIENT_PROJECTION + " where c.id > :id order by c.id")
+    List<Client> findClientsAfter(UUID id, Limit limit);
+
+    // Same expressions as the trigram indexes idx_client_name_trgm and idx_client_email_trgm
+    @Query(CLIENT_PROJECTION + " where c.id > :id and (lower(c.name) like :pattern escape '\\' " +
+            "or lower(c.email) like :pattern escape '\\') order by c.id")
+    List<Client> searchClientsAfter(String pattern, UUID id, Limit limit);
+
+    // Transaction-scoped. A generic plan cannot see the search term, so after a few executions Postgres may settle on
+    // walking the primary key for every term, which reads the whole table when the term is rare
+    @Query(value = "select set_config('plan_cache_mode', 'force_custom_plan', true)", nativeQuery = true)
+    String forceCustomPlans();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(CLIENT_PROJECTION)
+    Stream<Client> streamAllClients();
 }
@@ -0,0 +1,27 @@
+package br.com.five.seven.food.infra.persistence.routing;
+
+/**
+ * Marks the current thread once it has committed a write; later read-only transactions on the same request then stay
+ * on the primary. {@link ReadYourWritesFilter} clears the mark when the request ends, and work that runs outside a
+ * request clears it when done.
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Boolean> WROTE = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+
+    }
+
+    public static void markWritten() {
+        WROTE.set(Boolean.TRUE);
+    }
+
+    public static boolean hasWritten() {
+        return WROTE.get() != null;
+    }
+
+    public static void clear() {
+        WROTE.remove();
+    }
+}
@@ -0,0 +1,61 @@
+package br.com.five.seven.food.infra.persistence.routing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Read-only side of the routing: hands out replica connections unless the request already wrote (read-your-writes)
+ * or the replica failed recently, in which case the primary serves the read. A failed replica is skipped for
+ * {@code retryAfter} so reads don't pay the connection timeout on every call.
+ */
+class ReplicaDataSource extends DelegatingDataSource {
+
+    private final DataSource primary;
+    private final Duration retryAfter;
+    private final Clock clock;
+    private final Counter replicaReads;
+    private final Counter primaryReads;
+    private final Counter fallbacks;
+
+    private volatile long skipReplicaUntil;
+
+    ReplicaDataSource(DataSource replica, DataSource primary, Duration retryAfter, MeterRegistry meterRegistry, Clock clock) {
+        super(replica);
+        this.primary = primary;
+        this.retryAfter = retryAfter;
+        this.clock = clock;
+        this.replicaReads = Counter.builder("food.datasource.reads").tag("target", "replica").register(meterRegistry);
+        this.primaryReads = Counter.builder("food.datasource.reads").tag("target", "primary").register(meterRegistry);
+        this.fallbacks = Counter.builder("food.datasource.replica.fallbacks").register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (ReadYourWrites.hasWritten() || clock.millis() < skipReplicaUntil) {
+            primaryReads.increment();
+            return primary.getConnection();
+        }
+        try {
+            Connection connection = super.getConnection();
+            replicaReads.increment();
+            return connection;
+        } catch (SQLException e) {
+            skipReplicaUntil = clock.millis() + retryAfter.toMillis();
+            fallbacks.increment();
+            primaryReads.increment();
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection();
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.five.seven.food.infra.persistence.routing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "food.datasource.replica")
+public record ReplicaProperties(boolean enabled, String url, String username, String password, int maximumPoolSize,
+                                Duration connectionTimeout, Duration retryAfter) {
+
+    public ReplicaProperties {
+        if (maximumPoolSize <= 0) {
+            maximumPoolSize = 10;
+        }
+        if (connectionTimeout == null) {
+            connectionTimeout = Duration.ofSeconds(1);
+        }
+        if (retryAfter == null) {
+            retryAfter = Duration.ofSeconds(5);
+        }
+    }
+}
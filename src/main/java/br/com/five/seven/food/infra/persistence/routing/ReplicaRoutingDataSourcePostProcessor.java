@@ -0,0 +1,81 @@
+package br.com.five.seven.food.infra.persistence.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Clock;
+
+/**
+ * With {@code food.datasource.replica.enabled}, wraps the primary DataSource in a {@link LazyConnectionDataSourceProxy}
+ * whose read-only connections (transactions marked {@code readOnly = true}) come from the replica pool. The physical
+ * connection is only fetched at the first statement, after the transaction has declared itself read-only. Runs before
+ * the statement-counting wrapper so statements are counted on both targets.
+ */
+@Component
+public class ReplicaRoutingDataSourcePostProcessor implements BeanPostProcessor, Ordered, DisposableBean {
+
+    private final Environment environment;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private HikariDataSource replica;
+
+    public ReplicaRoutingDataSourcePostProcessor(Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource primary) || replica != null) {
+            return bean;
+        }
+        ReplicaProperties properties = Binder.get(environment)
+                .bind("food.datasource.replica", ReplicaProperties.class)
+                .orElse(null);
+        if (properties == null || !properties.enabled()) {
+            return bean;
+        }
+        replica = replicaPool(properties);
+        LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(new WriteTrackingDataSource(primary));
+        routing.setDefaultAutoCommit(true);
+        routing.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        routing.setReadOnlyDataSource(new ReplicaDataSource(replica, primary, properties.retryAfter(),
+                meterRegistry.getObject(), Clock.systemUTC()));
+        return routing;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    public void destroy() {
+        if (replica != null) {
+            replica.close();
+        }
+    }
+
+    private static HikariDataSource replicaPool(ReplicaProperties properties) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName("HikariPool-replica");
+        pool.setJdbcUrl(properties.url());
+        pool.setUsername(properties.username());
+        pool.setPassword(properties.password());
+        pool.setMaximumPoolSize(properties.maximumPoolSize());
+        pool.setConnectionTimeout(properties.connectionTimeout().toMillis());
+        pool.setReadOnly(true);
+        // Start even when the replica is down; reads fall back to the primary until it answers
+        pool.setInitializationFailTimeout(-1);
+        return pool;
+    }
+}
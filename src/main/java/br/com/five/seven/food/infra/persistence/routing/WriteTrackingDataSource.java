@@ -0,0 +1,86 @@
+package br.com.five.seven.food.infra.persistence.routing;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Primary side of the routing: marks the thread for read-your-writes only once a connection commits after preparing
+ * a statement that is not a select, so read-write transactions that only read (or roll back) keep later reads on the
+ * replica. Plain {@code createStatement} calls don't expose their SQL and are counted as writes.
+ */
+class WriteTrackingDataSource extends DelegatingDataSource {
+
+    WriteTrackingDataSource(DataSource primary) {
+        super(primary);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return track(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return track(super.getConnection(username, password));
+    }
+
+    private static Connection track(Connection target) {
+        return (Connection) Proxy.newProxyInstance(WriteTrackingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new WriteTracker(target));
+    }
+
+    private static final class WriteTracker implements InvocationHandler {
+
+        private final Connection target;
+        private boolean wrote;
+
+        private WriteTracker(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "prepareStatement", "prepareCall" -> wrote |= isWrite((String) args[0]);
+                case "createStatement" -> wrote = true;
+                case "close" -> {
+                    // With auto-commit every statement committed as it ran
+                    if (wrote && !target.isClosed() && target.getAutoCommit()) {
+                        ReadYourWrites.markWritten();
+                    }
+                }
+                default -> {
+                }
+            }
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            switch (method.getName()) {
+                case "commit" -> {
+                    if (wrote) {
+                        ReadYourWrites.markWritten();
+                    }
+                    wrote = false;
+                }
+                case "rollback" -> wrote = args != null && wrote;
+                default -> {
+                }
+            }
+            return result;
+        }
+
+        private static boolean isWrite(String sql) {
+            return !sql.stripLeading().regionMatches(true, 0, "select", 0, 6);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package br.com.five.seven.food.infra.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "food.security.auth-cache")
+public record AuthCacheProperties(long maximumSize, Duration ttl) {
+
+    public AuthCacheProperties {
+        if (maximumSize <= 0) {
+            maximumSize = 1_000;
+        }
+        if (ttl == null) {
+            ttl = Duration.ofMinutes(5);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package br.com.five.seven.food.infra.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.List;
+
+/**
+ * Remembers successful username/password checks for a while, so HTTP Basic callers pay the BCrypt comparison once per
+ * TTL instead of on every request. Only a salted SHA-256 of the password and the verified principal and authorities
+ * are kept; every call gets its own token carrying its own request details. Failed attempts always go to the
+ * delegate, so guessing still costs a BCrypt round per try. Stopping the context (which includes the stop before a
+ * CRaC checkpoint) empties the cache and starting it draws a new salt, so restored processes don't share either.
+ */
+public class CachingAuthenticationProvider implements AuthenticationProvider, SmartLifecycle {
+
+    private final AuthenticationProvider delegate;
+    private final Cache<String, Entry> cache;
+    private volatile byte[] salt = newSalt();
+    private volatile boolean running;
+
+    public CachingAuthenticationProvider(AuthenticationProvider delegate, AuthCacheProperties properties) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .build();
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        if (!(authentication.getCredentials() instanceof String password)) {
+            return delegate.authenticate(authentication);
+        }
+        String username = authentication.getName();
+        byte[] digest = digest(username, password);
+        Entry cached = cache.getIfPresent(username);
+        if (cached != null && MessageDigest.isEqual(cached.digest(), digest)) {
+            UsernamePasswordAuthenticationToken result =
+                    UsernamePasswordAuthenticationToken.authenticated(cached.principal(), null, cached.authorities());
+            result.setDetails(authentication.getDetails());
+            return result;
+        }
+        Authentication result = delegate.authenticate(authentication);
+        if (result != null && result.isAuthenticated()) {
+            cache.put(username, new Entry(digest, result.getPrincipal(), List.copyOf(result.getAuthorities())));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return UsernamePasswordAuthenticationToken.class.isAssignableFrom(authentication) && delegate.supports(authentication);
+    }
+
+    @Override
+    public void start() {
+        salt = newSalt();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        cache.invalidateAll();
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private byte[] digest(String username, String password) {
+        try {
+            MessageDigest sha = MessageDigest.getInstance("SHA-256");
+            sha.update(salt);
+            sha.update(username.getBytes(StandardCharsets.UTF_8));
+            sha.update((byte) 0);
+            return sha.digest(password.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static byte[] newSalt() {
+        byte[] salt = new byte[16];
+        new SecureRandom().nextBytes(salt);
+        return salt;
+    }
+
+    private record Entry(byte[] digest, Object principal, List<GrantedAuthority> authorities) {
+    }
+}
@@ -1,15 +1,19 @@
 package br.com.five.seven.food.infra.security;
 
-import feign.Request;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.Customizer;
-import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -20,23 +24,25 @@ import java.util.List;
 
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties(AuthCacheProperties.class)
 public class SecurityConfig {
 
         @Bean
-        public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+        public SecurityFilterChain securityFilterChain(HttpSecurity http, AuthenticationManager authManager) throws Exception {
                 http
+                                .authenticationManager(authManager)
                                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                                 .authorizeHttpRequests(auth -> auth
                                                 .anyRequest().permitAll())
                                 .csrf(csrf -> csrf
                                                 .ignoringRequestMatchers(
                                                                 request -> request.getMethod()
-                                                                                .equals(Request.HttpMethod.POST.name())
+                                                                                .equals(HttpMethod.POST.name())
                                                                                 || request.getMethod().equals(
-                                                                                                Request.HttpMethod.PUT
+                                                                                                HttpMethod.PUT
                                                                                                                 .name())
                                                                                 || request.getMethod().equals(
-                                                                                                Request.HttpMethod.DELETE
+                                                                                                HttpMethod.DELETE
                                                                                                                 .name())))
                                 .httpBasic(Customizer.withDefaults());
                 return http.build();
@@ -62,12 +68,16 @@ public class SecurityConfig {
         }
 
         @Bean
-        public AuthenticationManager authManager(HttpSecurity http) throws Exception {
-                AuthenticationManagerBuilder authenticationManagerBuilder = http
-                                .getSharedObject(AuthenticationManagerBuilder.class);
-                authenticationManagerBuilder
-                                .inMemoryAuthentication()
-                                .withUser("admin").password(passwordEncoder().encode("admin")).roles("ADMIN");
-                return authenticationManagerBuilder.build();
+        public CachingAuthenticationProvider cachingAuthenticationProvider(PasswordEncoder passwordEncoder,
+                                                                           AuthCacheProperties authCacheProperties) {
+                DaoAuthenticationProvider provider = new DaoAuthenticationProvider(passwordEncoder);
+                provider.setUserDetailsService(new InMemoryUserDetailsManager(
+                                User.withUsername("admin").password(passwordEncoder.encode("admin")).roles("ADMIN").build()));
+                return new CachingAuthenticationProvider(provider, authCacheProperties);
+        }
+
+        @Bean
+        public AuthenticationManager authManager(CachingAuthenticationProvider cachingAuthenticationProvider) {
+                return new ProviderManager(cachingAuthenticationProvider);
         }
 }
@@ -0,0 +1,15 @@
+package br.com.five.seven.food.infra.stats;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "food.client-stats")
+public record ClientStatsProperties(Duration reconcileInterval) {
+
+    public ClientStatsProperties {
+        if (reconcileInterval == null) {
+            reconcileInterval = Duration.ofMinutes(1);
+        }
+    }
+}
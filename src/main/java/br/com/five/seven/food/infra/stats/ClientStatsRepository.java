@@ -0,0 +1,255 @@
+package br.com.five.seven.food.infra.stats;
+
+import br.com.five.seven.food.domain.model.Client;
+import br.com.five.seven.food.domain.model.ClientCollectionState;
+import br.com.five.seven.food.domain.model.ClientDeleteResult;
+import br.com.five.seven.food.domain.model.ClientStats;
+import br.com.five.seven.food.domain.model.ClientUpsertResult;
+import br.com.five.seven.food.domain.model.ClientVersion;
+import br.com.five.seven.food.domain.model.UpsertStatus;
+import br.com.five.seven.food.domain.repository.IClientRepository;
+import br.com.five.seven.food.infra.persistence.routing.ReadYourWrites;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Serves {@link #clientStats()} from counters kept in memory and moved by the result of every write, so reading them
+ * costs no query. Updates return the row's previous {@code updated_at} and move it out of that minute, and deletes
+ * return the timestamps of the removed rows and take them back out of the buckets they were counted in. The counters are per instance: each pod only sees its own writes until {@link #reconcile()} reloads
+ * everything from the database, on start and every {@code food.client-stats.reconcile-interval}, which bounds how far
+ * replicas can drift apart.
+ */
+@Slf4j
+public class ClientStatsRepository implements IClientRepository, SmartLifecycle {
+
+    private final IClientRepository delegate;
+    private final ClientStatsProperties properties;
+    private final Clock clock;
+
+    private volatile Counters counters = new Counters(0, new TreeMap<>(), new TreeMap<>(), null);
+    private ScheduledExecutorService scheduler;
+
+    public ClientStatsRepository(IClientRepository delegate, ClientStatsProperties properties) {
+        this(delegate, properties, Clock.systemDefaultZone());
+    }
+
+    ClientStatsRepository(IClientRepository delegate, ClientStatsProperties properties, Clock clock) {
+        this.delegate = delegate;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    @Override
+    public ClientUpsertResult update(Client client, ClientVersion expected) {
+        ClientUpsertResult updated = delegate.update(client, expected);
+        if (updated != null) {
+            updated(updated);
+        }
+        return updated;
+    }
+
+    @Override
+    public ClientUpsertResult upsert(Client client) {
+        ClientUpsertResult result = delegate.upsert(client);
+        stored(result);
+        return result;
+    }
+
+    @Override
+    public List<ClientUpsertResult> upsertAll(List<Client> clients) {
+        List<ClientUpsertResult> results = delegate.upsertAll(clients);
+        results.forEach(this::stored);
+        return results;
+    }
+
+    @Override
+    public List<Client> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Client> findPage(String afterId, int limit) {
+        return delegate.findPage(afterId, limit);
+    }
+
+    @Override
+    public List<Client> search(String query, String afterId, int limit) {
+        return delegate.search(query, afterId, limit);
+    }
+
+    @Override
+    public void streamAll(Consumer<Client> consumer) {
+        delegate.streamAll(consumer);
+    }
+
+    @Override
+    public ClientCollectionState collectionState() {
+        return delegate.collectionState();
+    }
+
+    @Override
+    public ClientStats clientStats() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        Counters current = counters;
+        // Old buckets are only dropped by the next reconcile, so reads never change the counters
+        return new ClientStats(current.total.get(), sums(current.createdPerDay.tailMap(ClientStats.firstDay(now))),
+                sums(current.updatedPerMinute.tailMap(ClientStats.firstMinute(now))), current.reconciledAt);
+    }
+
+    @Override
+    public Client findByCpf(String cpf) {
+        return delegate.findByCpf(cpf);
+    }
+
+    @Override
+    public boolean delete(String cpf) {
+        // Goes through deleteAll to learn which buckets the removed row was counted in
+        return !deleteAll(List.of(cpf)).isEmpty();
+    }
+
+    @Override
+    public List<ClientDeleteResult> deleteAll(List<String> cpfs) {
+        List<ClientDeleteResult> results = delegate.deleteAll(cpfs);
+        Set<String> ids = new HashSet<>();
+        results.stream().filter(result -> ids.add(result.getId())).forEach(this::deleted);
+        return results;
+    }
+
+    @Override
+    public Client findById(String id) {
+        return delegate.findById(id);
+    }
+
+    /**
+     * Replaces the counters with a fresh count from the database. Writes that land between the count and the swap
+     * are lost until the next run.
+     */
+    public void reconcile() {
+        try {
+            ClientStats stats = delegate.clientStats();
+            counters = new Counters(stats.getTotal(), stats.getCreatedPerDay(), stats.getUpdatedPerMinute(),
+                    stats.getReconciledAt());
+        } catch (RuntimeException e) {
+            log.warn("Could not reconcile the client statistics, keeping the incremental counts", e);
+        } finally {
+            ReadYourWrites.clear();
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "client-stats");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::reconcile, 0, properties.reconcileInterval().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+
+    private void stored(ClientUpsertResult result) {
+        if (result.getStatus() == UpsertStatus.CREATED) {
+            Counters current = counters;
+            current.total.incrementAndGet();
+            increment(current.createdPerDay, orNow(result.getClient().getCreatedAt()).toLocalDate());
+        } else if (result.getStatus() == UpsertStatus.UPDATED) {
+            updated(result);
+        }
+    }
+
+    // Like the reconcile query, a row only counts in the minute of its latest update, so it moves out of the old one
+    private void updated(ClientUpsertResult result) {
+        Counters current = counters;
+        if (result.getPreviousUpdatedAt() != null) {
+            decrement(current.updatedPerMinute, result.getPreviousUpdatedAt().truncatedTo(ChronoUnit.MINUTES));
+        }
+        increment(current.updatedPerMinute, orNow(result.getClient().getUpdatedAt()).truncatedTo(ChronoUnit.MINUTES));
+    }
+
+    private void deleted(ClientDeleteResult result) {
+        Counters current = counters;
+        current.total.decrementAndGet();
+        if (result.getCreatedAt() != null) {
+            decrement(current.createdPerDay, result.getCreatedAt().toLocalDate());
+        }
+        if (result.getUpdatedAt() != null) {
+            decrement(current.updatedPerMinute, result.getUpdatedAt().truncatedTo(ChronoUnit.MINUTES));
+        }
+    }
+
+    private LocalDateTime orNow(LocalDateTime time) {
+        return time == null ? LocalDateTime.now(clock) : time;
+    }
+
+    private static <K> void increment(ConcurrentSkipListMap<K, LongAdder> buckets, K key) {
+        buckets.computeIfAbsent(key, k -> new LongAdder()).increment();
+    }
+
+    // Buckets outside the windows are not kept, so there is nothing to take back for rows that old
+    private static <K> void decrement(ConcurrentSkipListMap<K, LongAdder> buckets, K key) {
+        LongAdder count = buckets.get(key);
+        if (count != null) {
+            count.decrement();
+        }
+    }
+
+    private static <K> SortedMap<K, Long> sums(SortedMap<K, LongAdder> buckets) {
+        SortedMap<K, Long> sums = new TreeMap<>();
+        buckets.forEach((key, count) -> sums.put(key, count.sum()));
+        return sums;
+    }
+
+    private static <K> ConcurrentSkipListMap<K, LongAdder> buckets(SortedMap<K, Long> counts) {
+        ConcurrentSkipListMap<K, LongAdder> buckets = new ConcurrentSkipListMap<>();
+        counts.forEach((key, count) -> buckets.computeIfAbsent(key, k -> new LongAdder()).add(count));
+        return buckets;
+    }
+
+    private static final class Counters {
+
+        private final AtomicLong total;
+        private final ConcurrentSkipListMap<LocalDate, LongAdder> createdPerDay;
+        private final ConcurrentSkipListMap<LocalDateTime, LongAdder> updatedPerMinute;
+        private final LocalDateTime reconciledAt;
+
+        private Counters(long total, SortedMap<LocalDate, Long> createdPerDay, SortedMap<LocalDateTime, Long> updatedPerMinute,
+                         LocalDateTime reconciledAt) {
+            this.total = new AtomicLong(total);
+            this.createdPerDay = buckets(createdPerDay);
+            this.updatedPerMinute = buckets(updatedPerMinute);
+            this.reconciledAt = reconciledAt;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package br.com.five.seven.food.infra.validation;
+
+import br.com.five.seven.food.application.utils.ValidationUtil;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class CpfValidator implements ConstraintValidator<ValidCpf, String> {
+
+    @Override
+    public boolean isValid(String value, ConstraintValidatorContext context) {
+        return value == null || ValidationUtil.validarCPF(value);
+    }
+}
@@ -0,0 +1,13 @@
+package br.com.five.seven.food.infra.validation;
+
+import br.com.five.seven.food.application.utils.ValidationUtil;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class EmailValidator implements ConstraintValidator<ValidEmail, String> {
+
+    @Override
+    public boolean isValid(String value, ConstraintValidatorContext context) {
+        return value == null || ValidationUtil.validarEmail(value);
+    }
+}
@@ -2,20 +2,36 @@ package br.com.five.seven.food.rest;
 
 import br.com.five.seven.food.rest.mapper.ClientMapper;
 import br.com.five.seven.food.rest.request.ClientRequest;
+import br.com.five.seven.food.rest.response.ClientBatchItemResponse;
+import br.com.five.seven.food.rest.response.ClientDeleteItemResponse;
+import br.com.five.seven.food.rest.response.ClientPageResponse;
 import br.com.five.seven.food.rest.response.ClientResponse;
+import br.com.five.seven.food.rest.response.ClientStatsResponse;
 import br.com.five.seven.food.domain.model.Client;
+import br.com.five.seven.food.domain.model.ClientPage;
 import br.com.five.seven.food.application.ports.in.ClientUseCase;
 import br.com.five.seven.food.infra.annotations.client.*;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.xml.bind.ValidationException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Tag(name = "Client", description = "Operations related to client management")
 @RestController
@@ -23,10 +39,15 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ClientController {
 
+    // Client data is personal, so shared caches must not keep it; private caches revalidate with the ETag
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final ClientUseCase service;
 
     private final ClientMapper mapper;
 
+    private final ObjectMapper objectMapper;
+
     @SwaggerCreateClient
     @PostMapping
     public ResponseEntity<ClientResponse> createClient(@Valid @RequestBody ClientRequest request) throws ValidationException {
@@ -34,26 +55,84 @@ public class ClientController {
         return ResponseEntity.ok(mapper.domainToResponse(saved));
     }
 
+    @SwaggerUpsertClients
+    @PostMapping("/batch")
+    public ResponseEntity<List<ClientBatchItemResponse>> upsertClients(@RequestBody List<ClientRequest> requests) throws ValidationException {
+        List<Client> clients = requests.stream().map(mapper::requestToDomain).toList();
+        return ResponseEntity.ok(mapper.upsertResultsToResponse(service.upsertAll(clients)));
+    }
+
     @SwaggerListAllClients
     @GetMapping
-    public ResponseEntity<List<ClientResponse>> listAllClients() {
-        return ResponseEntity.ok(service.findAll()
-                .stream()
-                .map(mapper::domainToResponse)
-                .collect(Collectors.toList()));
+    public ResponseEntity<ClientPageResponse> listAllClients(@RequestParam(required = false) String cursor,
+                                                             @RequestParam(defaultValue = "50") int size,
+                                                             WebRequest webRequest) throws ValidationException {
+        ClientPage page = service.findPage(cursor, size);
+        String etag = ClientETags.of(page);
+        if (webRequest.checkNotModified(etag)) {
+            return notModified();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(mapper.pageToResponse(page));
+    }
+
+    @SwaggerSearchClients
+    @GetMapping("/search")
+    public ResponseEntity<ClientPageResponse> searchClients(@RequestParam String q,
+                                                            @RequestParam(required = false) String cursor,
+                                                            @RequestParam(defaultValue = "50") int size,
+                                                            WebRequest webRequest) throws ValidationException {
+        ClientPage page = service.search(q, cursor, size);
+        String etag = ClientETags.of(page);
+        if (webRequest.checkNotModified(etag)) {
+            return notModified();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(mapper.pageToResponse(page));
+    }
+
+    @SwaggerClientStats
+    @GetMapping("/stats")
+    public ResponseEntity<ClientStatsResponse> stats() {
+        return ResponseEntity.ok(mapper.statsToResponse(service.clientStats()));
+    }
+
+    @SwaggerExportClients
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportClients(WebRequest webRequest, HttpServletResponse response) throws IOException {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE.getHeaderValue());
+        if (webRequest.checkNotModified(ClientETags.of(service.collectionState()))) {
+            return;
+        }
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=clients.ndjson");
+        ObjectWriter writer = objectMapper.writerFor(ClientResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            generator.setRootValueSeparator(null);
+            service.exportAll(client -> writeLine(writer, generator, mapper.domainToResponse(client)));
+        }
     }
 
     @SwaggerFindByCpf
     @GetMapping("/{cpf}")
-    public ResponseEntity<ClientResponse> findByCpf(@PathVariable String cpf) {
-        return ResponseEntity.ok(mapper.domainToResponse(service.findByCpf(cpf)));
+    public ResponseEntity<ClientResponse> findByCpf(@PathVariable String cpf, WebRequest webRequest) {
+        Client client = service.findByCpf(cpf);
+        String etag = ClientETags.of(client);
+        if (etag == null) {
+            return ResponseEntity.ok(mapper.domainToResponse(client));
+        }
+        if (webRequest.checkNotModified(etag)) {
+            return notModified();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(mapper.domainToResponse(client));
     }
 
     @SwaggerUpdateClient
     @PutMapping("/{cpf}")
-    public ResponseEntity<ClientResponse> update(@PathVariable String cpf, @RequestBody ClientRequest request) throws ValidationException {
-        Client updated = service.update(cpf, mapper.requestToDomain(request));
-        return ResponseEntity.ok(mapper.domainToResponse(updated));
+    public ResponseEntity<ClientResponse> update(@PathVariable String cpf, @RequestBody ClientRequest request,
+                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch)
+            throws ValidationException {
+        Client updated = service.update(cpf, mapper.requestToDomain(request), ClientETags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(ClientETags.of(updated)).cacheControl(REVALIDATE).body(mapper.domainToResponse(updated));
     }
 
     @SwaggerDeleteClient
@@ -63,4 +142,25 @@ public class ClientController {
         service.delete(cpf);
         return ResponseEntity.noContent().build();
     }
+
+    @SwaggerDeleteClients
+    @PreAuthorize("hasRole('ADMIN')")
+    @DeleteMapping
+    public ResponseEntity<List<ClientDeleteItemResponse>> deleteClients(@RequestBody List<String> cpfs) throws ValidationException {
+        return ResponseEntity.ok(mapper.deleteResultsToResponse(service.deleteAll(cpfs)));
+    }
+
+    // checkNotModified has already set the status and the ETag header on the response
+    private static <T> ResponseEntity<T> notModified() {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+    }
+
+    private void writeLine(ObjectWriter writer, JsonGenerator generator, ClientResponse response) {
+        try {
+            writer.writeValue(generator, response);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
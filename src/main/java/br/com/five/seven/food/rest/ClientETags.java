@@ -0,0 +1,85 @@
+package br.com.five.seven.food.rest;
+
+import br.com.five.seven.food.domain.model.Client;
+import br.com.five.seven.food.domain.model.ClientCollectionState;
+import br.com.five.seven.food.domain.model.ClientPage;
+import br.com.five.seven.food.domain.model.ClientVersion;
+import br.com.five.seven.food.infra.exceptions.PreconditionFailedException;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Validators for the client endpoints, computed from the domain objects so a 304 can be answered before any
+ * response body is mapped or serialized. Every write bumps {@code version}; the id is part of the tag so a client
+ * deleted and created again under the same CPF never matches an old tag.
+ */
+public final class ClientETags {
+
+    private ClientETags() {
+    }
+
+    /**
+     * Strong validator for a single client, or {@code null} when the client has no version to derive it from.
+     */
+    public static String of(Client client) {
+        if (client == null || client.getId() == null || client.getVersion() == null) {
+            return null;
+        }
+        return quote(client.getId() + "-" + client.getVersion());
+    }
+
+    /**
+     * Version named by an {@code If-Match} header, or {@code null} when the header is absent or {@code *}. Only a
+     * single strong tag in the format of {@link #of(Client)} can match; anything else fails the precondition.
+     */
+    public static ClientVersion parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        int separator = tag.lastIndexOf('-');
+        if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"") || separator < 1) {
+            throw new PreconditionFailedException("If-Match must be a single strong ETag of this client");
+        }
+        try {
+            return new ClientVersion(tag.substring(1, separator), Long.parseLong(tag.substring(separator + 1, tag.length() - 1)));
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("If-Match must be a single strong ETag of this client");
+        }
+    }
+
+    /**
+     * Strong validator for a page: a digest of the item validators and the next cursor.
+     */
+    public static String of(ClientPage page) {
+        StringBuilder source = new StringBuilder(page.getItems().size() * 48 + 32);
+        for (Client client : page.getItems()) {
+            source.append(client.getId()).append(':').append(client.getVersion()).append(',');
+        }
+        source.append(page.getNextCursor());
+        return quote(DigestUtils.md5DigestAsHex(source.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Weak validator for the full export. Row count plus latest modification catches inserts, updates and deletes,
+     * but it is not a digest of the content, hence weak.
+     */
+    public static String of(ClientCollectionState state) {
+        return "W/" + quote(state.getCount() + "-" + micros(state.getLastModified()));
+    }
+
+    // Postgres keeps microseconds, so finer digits would never be stable across reads
+    private static String micros(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return "0";
+        }
+        return Long.toHexString(dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + dateTime.getNano() / 1_000);
+    }
+
+    private static String quote(String value) {
+        return "\"" + value + "\"";
+    }
+}
@@ -1,7 +1,15 @@
 package br.com.five.seven.food.rest;
 
 import br.com.five.seven.food.infra.annotations.health.SwaggerHealth;
+import br.com.five.seven.food.infra.annotations.health.SwaggerLiveness;
+import br.com.five.seven.food.infra.annotations.health.SwaggerReadiness;
+import br.com.five.seven.food.infra.health.HealthProbe;
+import br.com.five.seven.food.infra.health.HealthSnapshot;
+import br.com.five.seven.food.rest.response.HealthResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -9,11 +17,35 @@ import org.springframework.web.bind.annotation.RestController;
 @Tag(name = "Health", description = "Health check endpoint")
 @RestController
 @RequestMapping
+@RequiredArgsConstructor
 public class HealthController {
 
+    private final HealthProbe healthProbe;
+
     @SwaggerHealth
     @GetMapping("/health")
     public String health() {
         return "UP!";
     }
+
+    @SwaggerLiveness
+    @GetMapping("/health/liveness")
+    public ResponseEntity<HealthResponse> liveness() {
+        HealthSnapshot snapshot = healthProbe.snapshot();
+        return toResponse(healthProbe.isLive(snapshot), snapshot);
+    }
+
+    @SwaggerReadiness
+    @GetMapping("/health/readiness")
+    public ResponseEntity<HealthResponse> readiness() {
+        HealthSnapshot snapshot = healthProbe.snapshot();
+        return toResponse(healthProbe.isReady(snapshot), snapshot);
+    }
+
+    private ResponseEntity<HealthResponse> toResponse(boolean up, HealthSnapshot snapshot) {
+        HealthResponse body = new HealthResponse(up ? "UP" : "DOWN", snapshot.database().name(), snapshot.pool().name(),
+                snapshot.activeConnections(), snapshot.maxConnections(), snapshot.waitingThreads(),
+                snapshot.checkedAt().toString(), snapshot.detail());
+        return ResponseEntity.status(up ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE).body(body);
+    }
 }
@@ -1,16 +1,37 @@
 package br.com.five.seven.food.rest.mapper;
 
 import br.com.five.seven.food.domain.model.Client;
+import br.com.five.seven.food.domain.model.ClientDeleteResult;
+import br.com.five.seven.food.domain.model.ClientPage;
+import br.com.five.seven.food.domain.model.ClientStats;
+import br.com.five.seven.food.domain.model.ClientUpsertResult;
 import br.com.five.seven.food.infra.persistence.entity.ClientEntity;
 import br.com.five.seven.food.rest.request.ClientRequest;
+import br.com.five.seven.food.rest.response.ClientBatchItemResponse;
+import br.com.five.seven.food.rest.response.ClientDeleteItemResponse;
+import br.com.five.seven.food.rest.response.ClientPageResponse;
 import br.com.five.seven.food.rest.response.ClientResponse;
+import br.com.five.seven.food.rest.response.ClientStatsResponse;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
 
 
 @Mapper(componentModel = "spring")
 public interface ClientMapper {
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Client requestToDomain(ClientRequest request);
     Client entityToDomain(ClientEntity client);
     ClientEntity domainToEntity(Client cliente);
     ClientResponse domainToResponse(Client client);
+    ClientPageResponse pageToResponse(ClientPage page);
+    @Mapping(target = "id", source = "client.id")
+    ClientBatchItemResponse upsertResultToResponse(ClientUpsertResult result);
+    List<ClientBatchItemResponse> upsertResultsToResponse(List<ClientUpsertResult> results);
+    ClientDeleteItemResponse deleteResultToResponse(ClientDeleteResult result);
+    List<ClientDeleteItemResponse> deleteResultsToResponse(List<ClientDeleteResult> results);
+    ClientStatsResponse statsToResponse(ClientStats stats);
 }
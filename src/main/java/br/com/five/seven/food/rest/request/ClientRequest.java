@@ -1,12 +1,12 @@
 package br.com.five.seven.food.rest.request;
 
-import jakarta.validation.constraints.Email;
+import br.com.five.seven.food.infra.validation.ValidCpf;
+import br.com.five.seven.food.infra.validation.ValidEmail;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.hibernate.validator.constraints.br.CPF;
 
 @Data
 @NoArgsConstructor
@@ -14,13 +14,13 @@ import org.hibernate.validator.constraints.br.CPF;
 public class ClientRequest {
 
     private String id;
-    @CPF(message = "Cpf inválido")
+    @ValidCpf
     private String cpf;
     @NotEmpty(message = "Nome é obrigatório")
     @NotNull(message = "Nome é obrigatório")
     private String name;
     @NotNull(message = "Email é obrigatório")
-    @Email(message = "Email inválido")
+    @ValidEmail
     private String email;
     private String phone;
 }
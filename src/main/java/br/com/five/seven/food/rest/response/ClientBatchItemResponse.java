@@ -0,0 +1,16 @@
+package br.com.five.seven.food.rest.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClientBatchItemResponse {
+
+    private String id;
+    private String cpf;
+    private String status;
+    private String message;
+}
@@ -0,0 +1,16 @@
+package br.com.five.seven.food.rest.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClientPageResponse {
+
+    private List<ClientResponse> items;
+    private String nextCursor;
+}
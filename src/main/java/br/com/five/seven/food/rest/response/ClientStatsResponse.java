@@ -0,0 +1,20 @@
+package br.com.five.seven.food.rest.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClientStatsResponse {
+
+    private long total;
+    private Map<LocalDate, Long> createdPerDay;
+    private long updatedLastHour;
+    private LocalDateTime reconciledAt;
+}
@@ -0,0 +1,20 @@
+package br.com.five.seven.food.rest.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HealthResponse {
+
+    private String status;
+    private String database;
+    private String pool;
+    private int activeConnections;
+    private int maxConnections;
+    private int waitingThreads;
+    private String checkedAt;
+    private String detail;
+}
@@ -0,0 +1,31 @@
+CREATE TABLE IF NOT EXISTS tb_client (
+    id UUID PRIMARY KEY,
+    cpf BIGINT NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    phone VARCHAR(20),
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP,
+    CONSTRAINT unique_cpf UNIQUE (cpf)
+);
+
+-- Tables created earlier by Hibernate ddl-auto or the old DataInitializer may still
+-- have text ids/cpfs or miss the unique constraint.
+DO $$
+BEGIN
+    IF (SELECT data_type FROM information_schema.columns
+        WHERE table_schema = current_schema() AND table_name = 'tb_client' AND column_name = 'cpf') <> 'bigint' THEN
+        ALTER TABLE tb_client ALTER COLUMN cpf TYPE BIGINT
+            USING NULLIF(regexp_replace(cpf, '[^0-9]', '', 'g'), '')::BIGINT;
+    END IF;
+
+    IF (SELECT data_type FROM information_schema.columns
+        WHERE table_schema = current_schema() AND table_name = 'tb_client' AND column_name = 'id') <> 'uuid' THEN
+        ALTER TABLE tb_client ALTER COLUMN id TYPE UUID USING id::UUID;
+    END IF;
+
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint
+                   WHERE conrelid = 'tb_client'::regclass AND conname = 'unique_cpf') THEN
+        ALTER TABLE tb_client ADD CONSTRAINT unique_cpf UNIQUE (cpf);
+    END IF;
+END $$;
@@ -0,0 +1,6 @@
+-- cpf lookups use the unique_cpf index from V1.
+-- Flyway runs CONCURRENTLY statements outside a transaction; its own lock is taken
+-- without a transaction (spring.flyway.postgresql.transactional-lock: false) so the
+-- index builds do not wait on it.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_client_email_lower ON tb_client (lower(email));
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_client_updated_at ON tb_client (updated_at);
@@ -0,0 +1,3 @@
+-- Optimistic concurrency for PUT /v1/clients/{cpf} (If-Match / ETag). Every write bumps it in SQL.
+-- A constant default makes this a catalog-only change on Postgres 11+, no table rewrite.
+ALTER TABLE tb_client ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
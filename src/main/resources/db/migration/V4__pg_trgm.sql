@@ -0,0 +1,3 @@
+-- Trigram operator classes for the name/email search indexes in V5. Kept apart from
+-- them because CREATE EXTENSION runs in a transaction and CREATE INDEX CONCURRENTLY cannot.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
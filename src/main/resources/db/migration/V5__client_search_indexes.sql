@@ -0,0 +1,4 @@
+-- GET /v1/clients/search matches lower(name) and lower(email) with LIKE '%term%';
+-- trigram GIN indexes on the same expressions keep it off a sequential scan.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_client_name_trgm ON tb_client USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_client_email_trgm ON tb_client USING gin (lower(email) gin_trgm_ops);
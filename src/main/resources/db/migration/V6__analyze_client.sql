@@ -0,0 +1,4 @@
+-- The V5 expression indexes have no statistics until the next analyze; without them the
+-- planner guesses a high match rate and walks the primary key for rare search terms.
+-- Separate from V5 because Flyway cannot mix it with CREATE INDEX CONCURRENTLY.
+ANALYZE tb_client;
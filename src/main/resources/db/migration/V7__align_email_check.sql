@@ -0,0 +1,6 @@
+-- Tables created by the old DataInitializer carry a valid_email CHECK that demands a
+-- dotted TLD, so addresses ValidationUtil.validarEmail accepts fail whole upsert chunks
+-- there. Replace it with the application rule on every database; NOT VALID skips the
+-- scan of rows the application already validated on the way in.
+ALTER TABLE tb_client DROP CONSTRAINT IF EXISTS valid_email;
+ALTER TABLE tb_client ADD CONSTRAINT valid_email CHECK (email ~ '^[A-Za-z0-9._+-]+@[A-Za-z0-9.-]+$') NOT VALID;
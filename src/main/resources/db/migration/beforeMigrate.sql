@@ -0,0 +1,19 @@
+-- A CREATE INDEX CONCURRENTLY interrupted mid-build (e.g. the pod killed by its
+-- startupProbe) leaves an INVALID index behind, and V2/V5 would then skip it forever
+-- because of IF NOT EXISTS. Dropping it here lets the rerun migration build it again.
+DO $$
+DECLARE
+    invalid_index TEXT;
+BEGIN
+    FOR invalid_index IN
+        SELECT quote_ident(index_class.relname)
+        FROM pg_index
+        JOIN pg_class index_class ON index_class.oid = pg_index.indexrelid
+        JOIN pg_class table_class ON table_class.oid = pg_index.indrelid
+        WHERE table_class.relname = 'tb_client'
+          AND table_class.relnamespace = current_schema()::regnamespace
+          AND NOT pg_index.indisvalid
+    LOOP
+        EXECUTE 'DROP INDEX ' || invalid_index;
+    END LOOP;
+END $$;
@@ -2,24 +2,61 @@ package br.com.five.seven.food.adapter.in.controller;
 
 import br.com.five.seven.food.application.ports.in.ClientUseCase;
 import br.com.five.seven.food.domain.model.Client;
+import br.com.five.seven.food.domain.model.ClientCollectionState;
+import br.com.five.seven.food.domain.model.ClientDeleteResult;
+import br.com.five.seven.food.domain.model.ClientPage;
+import br.com.five.seven.food.domain.model.ClientStats;
+import br.com.five.seven.food.domain.model.ClientUpsertResult;
+import br.com.five.seven.food.domain.model.ClientVersion;
+import br.com.five.seven.food.infra.exceptions.PreconditionFailedException;
 import br.com.five.seven.food.rest.ClientController;
+import br.com.five.seven.food.rest.ClientETags;
 import br.com.five.seven.food.rest.mapper.ClientMapper;
 import br.com.five.seven.food.rest.request.ClientRequest;
+import br.com.five.seven.food.rest.response.ClientBatchItemResponse;
+import br.com.five.seven.food.rest.response.ClientDeleteItemResponse;
+import br.com.five.seven.food.rest.response.ClientPageResponse;
 import br.com.five.seven.food.rest.response.ClientResponse;
+import br.com.five.seven.food.rest.response.ClientStatsResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.xml.bind.ValidationException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpStatus.NOT_MODIFIED;
 import static org.springframework.http.HttpStatus.NO_CONTENT;
 import static org.springframework.http.HttpStatus.OK;
 
@@ -32,22 +69,115 @@ class ClientControllerTest {
     @Mock
     private ClientMapper clientMapper;
 
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
     @InjectMocks
     private ClientController clientController;
 
     @Test
-    void shouldGetAllClients() {
+    void shouldGetAllClients() throws ValidationException {
         Client client = createTestClient();
-        ClientResponse clientResponse = createTestClientResponse();
+        ClientPage page = new ClientPage(List.of(client), "next");
+        ClientPageResponse pageResponse = new ClientPageResponse(List.of(createTestClientResponse()), "next");
 
-        when(clientService.findAll()).thenReturn(List.of(client));
-        when(clientMapper.domainToResponse(client)).thenReturn(clientResponse);
+        when(clientService.findPage(null, 50)).thenReturn(page);
+        when(clientMapper.pageToResponse(page)).thenReturn(pageResponse);
 
-        ResponseEntity<List<ClientResponse>> response = clientController.listAllClients();
+        ResponseEntity<ClientPageResponse> response = clientController.listAllClients(null, 50, getRequest(null));
 
         assertEquals(OK, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertEquals(1, response.getBody().size());
+        assertEquals(1, response.getBody().getItems().size());
+        assertEquals("next", response.getBody().getNextCursor());
+        assertEquals(ClientETags.of(page), response.getHeaders().getETag());
+    }
+
+    @Test
+    void shouldSearchClients() throws ValidationException {
+        ClientPage page = new ClientPage(List.of(createTestClient()), null);
+        ClientPageResponse pageResponse = new ClientPageResponse(List.of(createTestClientResponse()), null);
+        when(clientService.search("john", null, 20)).thenReturn(page);
+        when(clientMapper.pageToResponse(page)).thenReturn(pageResponse);
+
+        ResponseEntity<ClientPageResponse> response = clientController.searchClients("john", null, 20, getRequest(null));
+
+        assertEquals(OK, response.getStatusCode());
+        assertEquals(pageResponse, response.getBody());
+        assertEquals(ClientETags.of(page), response.getHeaders().getETag());
+    }
+
+    @Test
+    void shouldAnswerNotModifiedForUnchangedPage() throws ValidationException {
+        ClientPage page = new ClientPage(List.of(createTestClient()), "next");
+        when(clientService.findPage(null, 50)).thenReturn(page);
+
+        ResponseEntity<ClientPageResponse> response = clientController.listAllClients(null, 50, getRequest(ClientETags.of(page)));
+
+        assertEquals(NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        verify(clientMapper, never()).pageToResponse(any());
+    }
+
+    @Test
+    void pageETagShouldChangeWhenAClientIsUpdated() {
+        Client client = createTestClient();
+        String before = ClientETags.of(new ClientPage(List.of(client), null));
+        client.setVersion(client.getVersion() + 1);
+
+        assertNotEquals(before, ClientETags.of(new ClientPage(List.of(client), null)));
+    }
+
+    @Test
+    void shouldReturnClientStats() {
+        LocalDateTime now = LocalDateTime.of(2024, 5, 10, 12, 0);
+        ClientStats stats = new ClientStats(3, new TreeMap<>(Map.of(now.toLocalDate(), 2L)), new TreeMap<>(), now);
+        ClientStatsResponse statsResponse = new ClientStatsResponse(3, Map.of(LocalDate.of(2024, 5, 10), 2L), 0, now);
+        when(clientService.clientStats()).thenReturn(stats);
+        when(clientMapper.statsToResponse(stats)).thenReturn(statsResponse);
+
+        ResponseEntity<ClientStatsResponse> response = clientController.stats();
+
+        assertEquals(OK, response.getStatusCode());
+        assertEquals(statsResponse, response.getBody());
+    }
+
+    @Test
+    void shouldExportClientsAsNdjson() throws IOException {
+        Client client = createTestClient();
+        ClientResponse clientResponse = createTestClientResponse();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        doAnswer(invocation -> {
+            Consumer<Client> consumer = invocation.getArgument(0);
+            consumer.accept(client);
+            consumer.accept(client);
+            return null;
+        }).when(clientService).exportAll(any());
+        when(clientMapper.domainToResponse(client)).thenReturn(clientResponse);
+        when(clientService.collectionState()).thenReturn(new ClientCollectionState(2, client.getCreatedAt()));
+
+        clientController.exportClients(new ServletWebRequest(new MockHttpServletRequest("GET", "/v1/clients/export"), response), response);
+
+        String line = "{\"id\":\"id\",\"cpf\":\"cpf\",\"name\":\"name\",\"email\":\"email\",\"phone\":\"phone\"}\n";
+        assertEquals(MediaType.APPLICATION_NDJSON_VALUE, response.getContentType());
+        assertEquals(line + line, response.getContentAsString());
+        assertTrue(response.getHeader(HttpHeaders.ETAG).startsWith("W/\""));
+    }
+
+    @Test
+    void shouldSkipExportWhenCollectionIsUnchanged() throws IOException {
+        ClientCollectionState state = new ClientCollectionState(2, LocalDateTime.of(2025, 1, 1, 0, 0));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/clients/export");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, ClientETags.of(state));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        when(clientService.collectionState()).thenReturn(state);
+
+        clientController.exportClients(new ServletWebRequest(request, response), response);
+
+        assertEquals(NOT_MODIFIED.value(), response.getStatus());
+        assertEquals("", response.getContentAsString());
+        verify(clientService, never()).exportAll(any());
     }
 
     @Test
@@ -59,11 +189,42 @@ class ClientControllerTest {
         when(clientService.findByCpf(cpf)).thenReturn(client);
         when(clientMapper.domainToResponse(client)).thenReturn(clientResponse);
 
-        ResponseEntity<ClientResponse> response = clientController.findByCpf(cpf);
+        ResponseEntity<ClientResponse> response = clientController.findByCpf(cpf, getRequest(null));
 
         assertNotNull(response);
         assertEquals(OK, response.getStatusCode());
         assertEquals(clientResponse, response.getBody());
+        assertEquals(ClientETags.of(client), response.getHeaders().getETag());
+        assertEquals("no-cache, private", response.getHeaders().getCacheControl());
+    }
+
+    @Test
+    void shouldAnswerNotModifiedWithoutMappingWhenETagMatches() {
+        Client client = createTestClient();
+        when(clientService.findByCpf("test")).thenReturn(client);
+
+        ServletWebRequest request = getRequest(ClientETags.of(client));
+
+        ResponseEntity<ClientResponse> response = clientController.findByCpf("test", request);
+
+        assertEquals(NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        assertEquals(ClientETags.of(client), request.getResponse().getHeader(HttpHeaders.ETAG));
+        verify(clientMapper, never()).domainToResponse(any());
+    }
+
+    @Test
+    void shouldReturnClientWhenETagIsStale() {
+        Client client = createTestClient();
+        String stale = ClientETags.of(client);
+        client.setVersion(client.getVersion() + 1);
+        when(clientService.findByCpf("test")).thenReturn(client);
+        when(clientMapper.domainToResponse(client)).thenReturn(createTestClientResponse());
+
+        ResponseEntity<ClientResponse> response = clientController.findByCpf("test", getRequest(stale));
+
+        assertEquals(OK, response.getStatusCode());
+        assertNotNull(response.getBody());
     }
 
     @Test
@@ -80,6 +241,23 @@ class ClientControllerTest {
         assertEquals(OK, response.getStatusCode());
     }
 
+    @Test
+    void shouldUpsertClientsInBatch() throws ValidationException {
+        ClientRequest request = createClientRequest();
+        Client client = createTestClient();
+        List<ClientUpsertResult> results = List.of(ClientUpsertResult.stored(client, true));
+        List<ClientBatchItemResponse> batchResponse = List.of(new ClientBatchItemResponse("id", "cpf", "CREATED", null));
+
+        when(clientMapper.requestToDomain(request)).thenReturn(client);
+        when(clientService.upsertAll(List.of(client))).thenReturn(results);
+        when(clientMapper.upsertResultsToResponse(results)).thenReturn(batchResponse);
+
+        ResponseEntity<List<ClientBatchItemResponse>> response = clientController.upsertClients(List.of(request));
+
+        assertEquals(OK, response.getStatusCode());
+        assertEquals(batchResponse, response.getBody());
+    }
+
     @Test
     void shouldUpdateClient() throws ValidationException {
         String cpf = "test";
@@ -88,14 +266,49 @@ class ClientControllerTest {
         ClientResponse clientResponse = createTestClientResponse();
 
         when(clientMapper.requestToDomain(updateRequest)).thenReturn(client);
-        when(clientService.update(cpf, client)).thenReturn(client);
+        when(clientService.update(cpf, client, null)).thenReturn(client);
         when(clientMapper.domainToResponse(client)).thenReturn(clientResponse);
 
-        ResponseEntity<ClientResponse> response = clientController.update(cpf, updateRequest);
+        ResponseEntity<ClientResponse> response = clientController.update(cpf, updateRequest, null);
 
         assertNotNull(response);
         assertEquals(OK, response.getStatusCode());
         assertEquals(clientResponse, response.getBody());
+        assertEquals("\"id-3\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    void shouldPassIfMatchVersionToUpdate() throws ValidationException {
+        ClientRequest updateRequest = createClientRequest();
+        Client client = createTestClient();
+        when(clientMapper.requestToDomain(updateRequest)).thenReturn(client);
+        when(clientService.update(eq("test"), eq(client), any(ClientVersion.class))).thenReturn(client);
+
+        clientController.update("test", updateRequest, "\"0190b6a4-3c2e-7d1f-9a4b-5e6f7a8b9c0d-7\"");
+
+        ArgumentCaptor<ClientVersion> expected = ArgumentCaptor.forClass(ClientVersion.class);
+        verify(clientService).update(eq("test"), eq(client), expected.capture());
+        assertEquals("0190b6a4-3c2e-7d1f-9a4b-5e6f7a8b9c0d", expected.getValue().getId());
+        assertEquals(7, expected.getValue().getVersion());
+    }
+
+    @Test
+    void shouldRejectWeakOrMalformedIfMatch() {
+        ClientRequest updateRequest = createClientRequest();
+
+        assertThrows(PreconditionFailedException.class, () -> clientController.update("test", updateRequest, "W/\"id-1\""));
+        assertThrows(PreconditionFailedException.class, () -> clientController.update("test", updateRequest, "\"id-x\""));
+        verifyNoInteractions(clientService);
+    }
+
+    @Test
+    void shouldTreatWildcardIfMatchAsUnconditional() throws ValidationException {
+        ClientRequest updateRequest = createClientRequest();
+        Client client = createTestClient();
+        when(clientMapper.requestToDomain(updateRequest)).thenReturn(client);
+        when(clientService.update("test", client, null)).thenReturn(client);
+
+        assertEquals(OK, clientController.update("test", updateRequest, "*").getStatusCode());
     }
 
     @Test
@@ -110,8 +323,35 @@ class ClientControllerTest {
         assertEquals(NO_CONTENT, response.getStatusCode());
     }
 
+    @Test
+    void shouldDeleteClientsInBatch() throws ValidationException {
+        List<String> cpfs = List.of("12345678901", "123");
+        List<ClientDeleteResult> results = List.of(ClientDeleteResult.deleted("12345678901", "id"),
+                ClientDeleteResult.invalid("123", "Client cpf must have 11 digits"));
+        List<ClientDeleteItemResponse> body = List.of(new ClientDeleteItemResponse("id", "12345678901", "DELETED", null),
+                new ClientDeleteItemResponse(null, "123", "INVALID", "Client cpf must have 11 digits"));
+        when(clientService.deleteAll(cpfs)).thenReturn(results);
+        when(clientMapper.deleteResultsToResponse(results)).thenReturn(body);
+
+        ResponseEntity<List<ClientDeleteItemResponse>> response = clientController.deleteClients(cpfs);
+
+        assertEquals(OK, response.getStatusCode());
+        assertEquals(body, response.getBody());
+    }
+
     private Client createTestClient() {
-        return new Client("id", "cpf", "name", "email", "phone");
+        Client client = new Client("id", "cpf", "name", "email", "phone");
+        client.setCreatedAt(LocalDateTime.of(2025, 1, 1, 12, 0, 0, 123_456_000));
+        client.setVersion(3L);
+        return client;
+    }
+
+    private ServletWebRequest getRequest(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/clients");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
     }
 
     private ClientResponse createTestClientResponse() {
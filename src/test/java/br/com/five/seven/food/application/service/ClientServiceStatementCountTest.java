@@ -0,0 +1,181 @@
+package br.com.five.seven.food.application.service;
+
+import br.com.five.seven.food.domain.model.Client;
+import br.com.five.seven.food.domain.model.ClientVersion;
+import br.com.five.seven.food.infra.metrics.StatementCounter;
+import br.com.five.seven.food.infra.metrics.StatementCountingDataSource;
+import br.com.five.seven.food.infra.persistence.entity.ClientEntity;
+import br.com.five.seven.food.infra.persistence.repository.ClientJdbcRepository;
+import br.com.five.seven.food.infra.persistence.repository.ClientRepositoryAdapterImpl;
+import br.com.five.seven.food.infra.persistence.repository.ClienteRepository;
+import br.com.five.seven.food.rest.mapper.ClientMapper;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ClientServiceStatementCountTest {
+
+    private static final String ID = "0190b6a4-3c2e-7d1f-9a4b-5e6f7a8b9c0d";
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    @Mock
+    private ClienteRepository clienteRepository;
+
+    @Mock
+    private ClientMapper clientMapper;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private Cache secondLevelCache;
+
+    private ClientService clientService;
+
+    private long statementsBefore;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(entityManager.getEntityManagerFactory()).thenReturn(entityManagerFactory);
+        when(entityManagerFactory.getCache()).thenReturn(secondLevelCache);
+
+        ClientJdbcRepository jdbcRepository = new ClientJdbcRepository(
+                new JdbcTemplate(new StatementCountingDataSource(dataSource)));
+        clientService = new ClientService(
+                new ClientRepositoryAdapterImpl(clienteRepository, clientMapper, entityManager, jdbcRepository));
+        statementsBefore = StatementCounter.current();
+    }
+
+    @Test
+    void createClientForNewCpfShouldIssueSingleStatement() throws Exception {
+        storedRow(true);
+
+        Client created = clientService.createClient(newClient());
+
+        assertEquals(ID, created.getId());
+        assertEvicted();
+        assertStatementCount(1);
+    }
+
+    @Test
+    void createClientForExistingCpfShouldIssueSingleStatement() throws Exception {
+        storedRow(false);
+
+        Client updated = clientService.createClient(newClient());
+
+        assertEquals(ID, updated.getId());
+        assertEquals(LocalDateTime.of(2024, 1, 1, 0, 0), updated.getCreatedAt());
+        assertEvicted();
+        assertStatementCount(1);
+    }
+
+    @Test
+    void updateShouldIssueSingleStatement() throws Exception {
+        storedRow(false);
+        when(resultSet.getLong("version")).thenReturn(4L);
+
+        Client updated = clientService.update("123.456.789-09", newClient(), null);
+
+        assertEquals(ID, updated.getId());
+        assertEquals(4L, updated.getVersion());
+        assertEquals(LocalDateTime.of(2024, 1, 1, 0, 0), updated.getCreatedAt());
+        assertEvicted();
+        assertStatementCount(1);
+    }
+
+    @Test
+    void conditionalUpdateShouldIssueSingleStatement() throws Exception {
+        storedRow(false);
+
+        clientService.update("12345678909", newClient(), new ClientVersion("0190b6a4-3c2e-7d1f-9a4b-5e6f7a8b9c0d", 3));
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(connection).prepareStatement(sql.capture());
+        assertTrue(sql.getValue().contains("AND id = ? AND version = ?"));
+        verify(statement).setLong(7, 3);
+        assertEvicted();
+        assertStatementCount(1);
+    }
+
+    @Test
+    void deleteShouldIssueSingleStatement() throws Exception {
+        when(resultSet.next()).thenReturn(false);
+
+        clientService.delete("123.456.789-09");
+
+        verify(connection).createArrayOf("bigint", new Long[]{12345678909L});
+        verifyNoInteractions(secondLevelCache);
+        assertStatementCount(1);
+    }
+
+    // The JDBC write bypasses Hibernate, so the row it returned must be evicted from the second-level cache
+    private void assertEvicted() {
+        verify(secondLevelCache).evict(ClientEntity.class, UUID.fromString(ID));
+        verifyNoMoreInteractions(secondLevelCache);
+    }
+
+    private void assertStatementCount(int expected) throws SQLException {
+        assertEquals(expected, StatementCounter.current() - statementsBefore);
+        verify(connection, times(expected)).prepareStatement(anyString());
+        verify(connection, never()).createStatement();
+        verifyNoInteractions(clienteRepository);
+        verify(entityManager, never()).unwrap(any());
+    }
+
+    private Client newClient() {
+        return new Client(null, "12345678909", "John Doe", "john@example.com", null);
+    }
+
+    private void storedRow(boolean inserted) throws SQLException {
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getString("id")).thenReturn(ID);
+        when(resultSet.getObject("cpf", Long.class)).thenReturn(12345678909L);
+        when(resultSet.getString("name")).thenReturn("John Doe");
+        when(resultSet.getString("email")).thenReturn("john@example.com");
+        when(resultSet.getObject("created_at", LocalDateTime.class)).thenReturn(LocalDateTime.of(2024, 1, 1, 0, 0));
+        when(resultSet.getObject("updated_at", LocalDateTime.class)).thenReturn(inserted ? null : LocalDateTime.now());
+        when(resultSet.getBoolean("inserted")).thenReturn(inserted);
+    }
+}
@@ -1,8 +1,17 @@
 package br.com.five.seven.food.application.service;
 
+import br.com.five.seven.food.application.utils.CursorUtil;
 import br.com.five.seven.food.application.utils.ValidationUtil;
 import br.com.five.seven.food.domain.model.Client;
+import br.com.five.seven.food.domain.model.ClientDeleteResult;
+import br.com.five.seven.food.domain.model.ClientPage;
+import br.com.five.seven.food.domain.model.ClientUpsertResult;
+import br.com.five.seven.food.domain.model.ClientVersion;
+import br.com.five.seven.food.domain.model.DeleteStatus;
+import br.com.five.seven.food.domain.model.UpsertStatus;
 import br.com.five.seven.food.domain.repository.IClientRepository;
+import br.com.five.seven.food.infra.exceptions.InvalidCursorException;
+import br.com.five.seven.food.infra.exceptions.PreconditionFailedException;
 import br.com.five.seven.food.infra.utils.FoodUtils;
 import jakarta.xml.bind.ValidationException;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,11 +23,16 @@ import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -50,15 +64,15 @@ class ClientServiceTest {
             validationUtil.when(() -> ValidationUtil.validarEmail(anyString())).thenReturn(true);
             foodUtils.when(() -> FoodUtils.limparString(anyString())).thenReturn("12345678901");
 
-            when(clientRepository.findByCpf("12345678901")).thenReturn(null);
-            when(clientRepository.save(any(Client.class))).thenReturn(validClient);
+            when(clientRepository.upsert(validClient)).thenReturn(ClientUpsertResult.stored(validClient, true));
 
             Client result = clientService.createClient(validClient);
 
             assertNotNull(result);
             assertEquals("John Doe", result.getName());
-            verify(clientRepository).findByCpf("12345678901");
-            verify(clientRepository).save(validClient);
+            assertNotNull(validClient.getCreatedAt());
+            verify(clientRepository).upsert(validClient);
+            verify(clientRepository, never()).findByCpf(anyString());
         }
     }
 
@@ -71,18 +85,14 @@ class ClientServiceTest {
             validationUtil.when(() -> ValidationUtil.validarEmail(anyString())).thenReturn(true);
             foodUtils.when(() -> FoodUtils.limparString(anyString())).thenReturn("12345678901");
 
-            Client existingClient = new Client();
-            existingClient.setId("1");
-            existingClient.setCpf("12345678901");
-
-            when(clientRepository.findByCpf("12345678901")).thenReturn(existingClient);
-            when(clientRepository.save(any(Client.class))).thenReturn(validClient);
+            when(clientRepository.update(validClient, null)).thenReturn(ClientUpsertResult.stored(validClient, false));
 
-            Client result = clientService.update("12345678901", validClient);
+            Client result = clientService.update("12345678901", validClient, null);
             assertNotNull(result);
-            assertEquals("1", validClient.getId());
-            verify(clientRepository).findByCpf("12345678901");
-            verify(clientRepository).save(any(Client.class));
+            assertEquals("1", result.getId());
+            assertNotNull(validClient.getUpdatedAt());
+            verify(clientRepository).update(validClient, null);
+            verify(clientRepository, never()).findByCpf(anyString());
         }
     }
 
@@ -97,7 +107,7 @@ class ClientServiceTest {
                 () -> clientService.createClient(clientWithNullName));
 
         assertEquals("Client name cannot be empty", exception.getMessage());
-        verify(clientRepository, never()).save(any(Client.class));
+        verify(clientRepository, never()).upsert(any(Client.class));
     }
 
     @Test
@@ -111,7 +121,7 @@ class ClientServiceTest {
                 () -> clientService.createClient(clientWithEmptyName));
 
         assertEquals("Client name cannot be empty", exception.getMessage());
-        verify(clientRepository, never()).save(any(Client.class));
+        verify(clientRepository, never()).upsert(any(Client.class));
     }
 
     @Test
@@ -123,7 +133,7 @@ class ClientServiceTest {
                     () -> clientService.createClient(validClient));
 
             assertEquals("Client cpf cannot be valid", exception.getMessage());
-            verify(clientRepository, never()).save(any(Client.class));
+            verify(clientRepository, never()).upsert(any(Client.class));
         }
     }
 
@@ -135,7 +145,7 @@ class ClientServiceTest {
         clientWithNullEmail.setEmail(null);
 
         assertThrows(ValidationException.class, () -> clientService.createClient(clientWithNullEmail));
-        verify(clientRepository, never()).save(any(Client.class));
+        verify(clientRepository, never()).upsert(any(Client.class));
     }
 
     @Test
@@ -148,10 +158,93 @@ class ClientServiceTest {
                     () -> clientService.createClient(validClient));
 
             assertEquals("Client email cannot be valid", exception.getMessage());
-            verify(clientRepository, never()).save(any(Client.class));
+            verify(clientRepository, never()).upsert(any(Client.class));
         }
     }
 
+    @Test
+    void upsertAllShouldReportOutcomeOfEachItemInRequestOrder() throws ValidationException {
+        Client created = new Client(null, "12345678909", "John Doe", "john@example.com", null);
+        Client invalid = new Client(null, "11111111111", "Invalid", "invalid@example.com", null);
+        Client updated = new Client(null, "98765432100", "Jane Doe", "jane@example.com", null);
+
+        when(clientRepository.upsertAll(List.of(created, updated))).thenReturn(List.of(
+                ClientUpsertResult.stored(created, true),
+                ClientUpsertResult.stored(updated, false)));
+
+        List<ClientUpsertResult> results = clientService.upsertAll(List.of(created, invalid, updated));
+
+        assertEquals(3, results.size());
+        assertEquals(UpsertStatus.CREATED, results.get(0).getStatus());
+        assertEquals(UpsertStatus.INVALID, results.get(1).getStatus());
+        assertEquals("Client cpf cannot be valid", results.get(1).getMessage());
+        assertEquals(UpsertStatus.UPDATED, results.get(2).getStatus());
+        assertNotNull(created.getCreatedAt());
+    }
+
+    @Test
+    void upsertAllShouldMarkItemsAboveColumnLimitsInvalidAndStoreTheRest() throws ValidationException {
+        Client valid = new Client(null, "12345678909", "John Doe", "john@example.com", "11999999999");
+        Client oversized = new Client(null, "98765432100", "J".repeat(101), "jane@example.com", null);
+        Client longPhone = new Client(null, "11144477735", "Jane Doe", "jane@example.com", "1".repeat(21));
+
+        when(clientRepository.upsertAll(List.of(valid))).thenReturn(List.of(ClientUpsertResult.stored(valid, true)));
+
+        List<ClientUpsertResult> results = clientService.upsertAll(List.of(valid, oversized, longPhone));
+
+        assertEquals(UpsertStatus.CREATED, results.get(0).getStatus());
+        assertEquals(UpsertStatus.INVALID, results.get(1).getStatus());
+        assertEquals("Client name cannot have more than 100 characters", results.get(1).getMessage());
+        assertEquals(UpsertStatus.INVALID, results.get(2).getStatus());
+        assertEquals("Client phone cannot have more than 20 characters", results.get(2).getMessage());
+        verify(clientRepository).upsertAll(List.of(valid));
+    }
+
+    @Test
+    void upsertAllShouldReportNullItemsWithoutFailingTheBatch() throws ValidationException {
+        Client valid = new Client(null, "12345678909", "John Doe", "john@example.com", null);
+
+        when(clientRepository.upsertAll(List.of(valid))).thenReturn(List.of(ClientUpsertResult.stored(valid, true)));
+
+        List<ClientUpsertResult> results = clientService.upsertAll(Arrays.asList(null, valid));
+
+        assertEquals(UpsertStatus.INVALID, results.get(0).getStatus());
+        assertEquals("Client cannot be null", results.get(0).getMessage());
+        assertEquals(UpsertStatus.CREATED, results.get(1).getStatus());
+    }
+
+    @Test
+    void upsertAllShouldKeepOnlyLastItemOfRepeatedCpf() throws ValidationException {
+        Client first = new Client(null, "12345678909", "John Doe", "john@example.com", null);
+        Client last = new Client(null, "12345678909", "John Smith", "john@example.com", null);
+
+        when(clientRepository.upsertAll(List.of(last))).thenReturn(List.of(ClientUpsertResult.stored(last, true)));
+
+        List<ClientUpsertResult> results = clientService.upsertAll(List.of(first, last));
+
+        assertEquals(UpsertStatus.INVALID, results.get(0).getStatus());
+        assertEquals(UpsertStatus.CREATED, results.get(1).getStatus());
+        verify(clientRepository).upsertAll(List.of(last));
+    }
+
+    @Test
+    void upsertAllWithOnlyInvalidItemsShouldNotHitRepository() throws ValidationException {
+        Client invalid = new Client(null, "11111111111", "", "invalid@example.com", null);
+
+        List<ClientUpsertResult> results = clientService.upsertAll(List.of(invalid));
+
+        assertEquals(UpsertStatus.INVALID, results.get(0).getStatus());
+        verify(clientRepository, never()).upsertAll(any());
+    }
+
+    @Test
+    void upsertAllAboveMaxBatchSizeShouldThrowValidationException() {
+        List<Client> clients = Collections.nCopies(ClientService.MAX_BATCH_SIZE + 1, validClient);
+
+        assertThrows(ValidationException.class, () -> clientService.upsertAll(clients));
+        verify(clientRepository, never()).upsertAll(any());
+    }
+
     @Test
     void findAllShouldReturnAllClients() {
         Client client2 = new Client();
@@ -170,6 +263,97 @@ class ClientServiceTest {
         verify(clientRepository).findAll();
     }
 
+    @Test
+    void findPageWithoutCursorShouldReturnFirstPageAndNextCursor() throws ValidationException {
+        Client client2 = new Client();
+        client2.setId("2");
+        Client client3 = new Client();
+        client3.setId("3");
+
+        when(clientRepository.findPage("", 3)).thenReturn(List.of(validClient, client2, client3));
+
+        ClientPage result = clientService.findPage(null, 2);
+
+        assertEquals(2, result.getItems().size());
+        assertEquals(CursorUtil.encode("2"), result.getNextCursor());
+        verify(clientRepository).findPage("", 3);
+    }
+
+    @Test
+    void findPageWithGarbageCursorShouldThrowInvalidCursorException() {
+        assertThrows(InvalidCursorException.class, () -> clientService.findPage("%%%garbage", 2));
+        verifyNoInteractions(clientRepository);
+    }
+
+    @Test
+    void findPageWithCursorThatIsNotAnIdShouldThrowInvalidCursorException() {
+        assertThrows(InvalidCursorException.class, () -> clientService.findPage(CursorUtil.encode("2"), 2));
+        verifyNoInteractions(clientRepository);
+    }
+
+    @Test
+    void findPageWithCursorShouldContinueAfterLastId() throws ValidationException {
+        String lastId = "0190b5a2-7c3e-7d4f-8a1b-2c3d4e5f6a7b";
+        when(clientRepository.findPage(lastId, 3)).thenReturn(List.of(validClient));
+
+        ClientPage result = clientService.findPage(CursorUtil.encode(lastId), 2);
+
+        assertEquals(1, result.getItems().size());
+        assertNull(result.getNextCursor());
+        assertFalse(result.hasNext());
+    }
+
+    @Test
+    void findPageShouldClampPageSize() throws ValidationException {
+        when(clientRepository.findPage(anyString(), anyInt())).thenReturn(List.of());
+
+        clientService.findPage(null, 0);
+        clientService.findPage(null, 10_000);
+
+        verify(clientRepository).findPage("", ClientService.DEFAULT_PAGE_SIZE + 1);
+        verify(clientRepository).findPage("", ClientService.MAX_PAGE_SIZE + 1);
+    }
+
+    @Test
+    void findPageWithMalformedCursorShouldThrowValidationException() {
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> clientService.findPage("not a cursor!", 10));
+
+        assertEquals("Invalid cursor", exception.getMessage());
+        verify(clientRepository, never()).findPage(anyString(), anyInt());
+    }
+
+    @Test
+    void searchShouldTrimQueryAndPageResults() throws ValidationException {
+        Client client2 = new Client();
+        client2.setId("2");
+        when(clientRepository.search("john", "", 2)).thenReturn(List.of(validClient, client2));
+
+        ClientPage result = clientService.search("  john ", null, 1);
+
+        assertEquals(1, result.getItems().size());
+        assertEquals(CursorUtil.encode(validClient.getId()), result.getNextCursor());
+    }
+
+    @Test
+    void searchWithoutThreeConsecutiveLettersOrDigitsShouldThrowValidationException() {
+        assertThrows(ValidationException.class, () -> clientService.search(" jo ", null, 10));
+        assertThrows(ValidationException.class, () -> clientService.search("a.b@c", null, 10));
+        assertThrows(ValidationException.class, () -> clientService.search("%%%", null, 10));
+        assertThrows(ValidationException.class, () -> clientService.search(null, null, 10));
+        assertThrows(ValidationException.class, () -> clientService.search("x".repeat(ClientService.MAX_SEARCH_LENGTH + 1), null, 10));
+        verifyNoInteractions(clientRepository);
+    }
+
+    @Test
+    void exportAllShouldStreamFromRepository() {
+        Consumer<Client> consumer = client -> { };
+
+        clientService.exportAll(consumer);
+
+        verify(clientRepository).streamAll(consumer);
+    }
+
     @Test
     void findByCpfWithValidCpfShouldReturnClient() {
         try (MockedStatic<FoodUtils> foodUtils = mockStatic(FoodUtils.class)) {
@@ -193,15 +377,61 @@ class ClientServiceTest {
             validationUtil.when(() -> ValidationUtil.validarEmail(anyString())).thenReturn(true);
             foodUtils.when(() -> FoodUtils.limparString(anyString())).thenReturn("12345678901");
 
-            when(clientRepository.save(any(Client.class))).thenReturn(validClient);
-
-            when(clientRepository.findByCpf("12345678901")).thenReturn(validClient);
+            when(clientRepository.update(any(Client.class), isNull())).thenReturn(ClientUpsertResult.stored(validClient, false));
 
-            Client result = clientService.update("12345678901", validClient);
+            Client result = clientService.update("12345678901", validClient, null);
 
             assertNotNull(result);
             assertEquals("12345678901", validClient.getCpf());
-            verify(clientRepository).save(validClient);
+            verify(clientRepository).update(validClient, null);
+        }
+    }
+
+    @Test
+    void updateShouldKeepStoredId() throws ValidationException {
+        try (MockedStatic<ValidationUtil> validationUtil = mockStatic(ValidationUtil.class);
+             MockedStatic<FoodUtils> foodUtils = mockStatic(FoodUtils.class)) {
+
+            validationUtil.when(() -> ValidationUtil.validarCPF(anyString())).thenReturn(true);
+            validationUtil.when(() -> ValidationUtil.validarEmail(anyString())).thenReturn(true);
+            foodUtils.when(() -> FoodUtils.limparString(anyString())).thenReturn("12345678901");
+
+            Client stored = new Client("0190b6a4-3c2e-7d1f-9a4b-5e6f7a8b9c0d", "12345678901", "John Updated", "john@example.com", null);
+            Client changes = new Client(null, "12345678901", "John Updated", "john@example.com", null);
+            when(clientRepository.update(changes, null)).thenReturn(ClientUpsertResult.stored(stored, false));
+
+            Client result = clientService.update("12345678901", changes, null);
+
+            assertEquals("0190b6a4-3c2e-7d1f-9a4b-5e6f7a8b9c0d", result.getId());
+        }
+    }
+
+    @Test
+    void updateWithStaleVersionShouldThrowPreconditionFailed() {
+        try (MockedStatic<ValidationUtil> validationUtil = mockStatic(ValidationUtil.class)) {
+            validationUtil.when(() -> ValidationUtil.validarCPF(anyString())).thenReturn(true);
+            validationUtil.when(() -> ValidationUtil.validarEmail(anyString())).thenReturn(true);
+            ClientVersion stale = new ClientVersion("0190b6a4-3c2e-7d1f-9a4b-5e6f7a8b9c0d", 1);
+            when(clientRepository.update(validClient, stale)).thenReturn(null);
+            when(clientRepository.findByCpf("12345678901")).thenReturn(validClient);
+
+            assertThrows(PreconditionFailedException.class, () -> clientService.update("12345678901", validClient, stale));
+        }
+    }
+
+    @Test
+    void updateWithUnknownCpfAndVersionShouldThrowValidationException() {
+        try (MockedStatic<ValidationUtil> validationUtil = mockStatic(ValidationUtil.class)) {
+            validationUtil.when(() -> ValidationUtil.validarCPF(anyString())).thenReturn(true);
+            validationUtil.when(() -> ValidationUtil.validarEmail(anyString())).thenReturn(true);
+            ClientVersion expected = new ClientVersion("0190b6a4-3c2e-7d1f-9a4b-5e6f7a8b9c0d", 1);
+            when(clientRepository.update(validClient, expected)).thenReturn(null);
+            when(clientRepository.findByCpf("12345678901")).thenReturn(null);
+
+            ValidationException exception = assertThrows(ValidationException.class,
+                    () -> clientService.update("12345678901", validClient, expected));
+
+            assertEquals("Client not found", exception.getMessage());
         }
     }
 
@@ -212,6 +442,37 @@ class ClientServiceTest {
         verify(clientRepository).delete("12345678901");
     }
 
+    @Test
+    void deleteAllShouldReportEachCpfInRequestOrderAndRepeatsAsNotFound() throws ValidationException {
+        when(clientRepository.deleteAll(List.of("12345678901", "98765432100")))
+                .thenReturn(List.of(ClientDeleteResult.deleted("12345678901", "0190b6a4-3c2e-7d1f-9a4b-5e6f7a8b9c0d")));
+
+        List<ClientDeleteResult> results = clientService.deleteAll(List.of("123.456.789-01", "123", "98765432100", "12345678901"));
+
+        assertEquals(List.of(DeleteStatus.DELETED, DeleteStatus.INVALID, DeleteStatus.NOT_FOUND, DeleteStatus.NOT_FOUND),
+                results.stream().map(ClientDeleteResult::getStatus).toList());
+        assertEquals("0190b6a4-3c2e-7d1f-9a4b-5e6f7a8b9c0d", results.get(0).getId());
+        assertEquals("123", results.get(1).getCpf());
+        assertEquals("98765432100", results.get(2).getCpf());
+        verify(clientRepository, times(1)).deleteAll(any());
+    }
+
+    @Test
+    void deleteAllWithOnlyInvalidCpfsShouldNotCallRepository() throws ValidationException {
+        List<ClientDeleteResult> results = clientService.deleteAll(List.of("abc", ""));
+
+        assertTrue(results.stream().allMatch(result -> result.getStatus() == DeleteStatus.INVALID));
+        verifyNoInteractions(clientRepository);
+    }
+
+    @Test
+    void deleteAllAboveMaxBatchSizeShouldFail() {
+        List<String> cpfs = Collections.nCopies(ClientService.MAX_BATCH_SIZE + 1, "12345678901");
+
+        assertThrows(ValidationException.class, () -> clientService.deleteAll(cpfs));
+        verifyNoInteractions(clientRepository);
+    }
+
     @Test
     void createClientWhenClientNotExistsShouldSaveNewClient() throws ValidationException {
         try (MockedStatic<ValidationUtil> validationUtil = mockStatic(ValidationUtil.class);
@@ -221,18 +482,18 @@ class ClientServiceTest {
             validationUtil.when(() -> ValidationUtil.validarEmail(anyString())).thenReturn(true);
             foodUtils.when(() -> FoodUtils.limparString(anyString())).thenReturn("12345678901");
 
-            when(clientRepository.findByCpf("12345678901")).thenReturn(null);
-            when(clientRepository.save(any(Client.class))).thenReturn(validClient);
+            when(clientRepository.upsert(any(Client.class))).thenReturn(ClientUpsertResult.stored(validClient, true));
 
             Client result = clientService.createClient(validClient);
 
             assertNotNull(result);
-            verify(clientRepository).save(any(Client.class));
+            verify(clientRepository, times(1)).upsert(any(Client.class));
+            verifyNoMoreInteractions(clientRepository);
         }
     }
 
     @Test
-    void createClientWhenClientExistsShouldCallUpdate() throws ValidationException {
+    void createClientWhenClientExistsShouldReturnUpdatedClient() throws ValidationException {
         try (MockedStatic<ValidationUtil> validationUtil = mockStatic(ValidationUtil.class);
              MockedStatic<FoodUtils> foodUtils = mockStatic(FoodUtils.class)) {
 
@@ -240,29 +501,35 @@ class ClientServiceTest {
             validationUtil.when(() -> ValidationUtil.validarEmail(anyString())).thenReturn(true);
             foodUtils.when(() -> FoodUtils.limparString(anyString())).thenReturn("12345678901");
 
-            Client existingClient = new Client();
-            existingClient.setId("1");
-            existingClient.setCpf("12345678901");
+            Client existingClient = new Client("1", "12345678901", "John Doe", "john@example.com", null);
             existingClient.setCreatedAt(LocalDateTime.now().minusDays(1));
+            existingClient.setUpdatedAt(LocalDateTime.now());
 
-            when(clientRepository.findByCpf("12345678901")).thenReturn(existingClient);
-            when(clientRepository.save(any(Client.class))).thenReturn(validClient);
+            when(clientRepository.upsert(any(Client.class))).thenReturn(ClientUpsertResult.stored(existingClient, false));
 
             Client result = clientService.createClient(validClient);
 
-            assertNotNull(result);
-            verify(clientRepository, times(1)).save(any(Client.class));
+            assertEquals("1", result.getId());
+            assertEquals(existingClient.getCreatedAt(), result.getCreatedAt());
+            assertNotNull(result.getUpdatedAt());
+            verify(clientRepository, times(1)).upsert(any(Client.class));
+            verifyNoMoreInteractions(clientRepository);
         }
     }
 
     @Test
     void updateWhenClientNotFoundShouldThrowValidationException() {
-        when(clientRepository.findByCpf("12345678901")).thenReturn(null);
+        try (MockedStatic<ValidationUtil> validationUtil = mockStatic(ValidationUtil.class)) {
+            validationUtil.when(() -> ValidationUtil.validarCPF(anyString())).thenReturn(true);
+            validationUtil.when(() -> ValidationUtil.validarEmail(anyString())).thenReturn(true);
+            when(clientRepository.update(validClient, null)).thenReturn(null);
 
-        ValidationException exception = assertThrows(ValidationException.class,
-                () -> clientService.update("12345678901", validClient));
+            ValidationException exception = assertThrows(ValidationException.class,
+                    () -> clientService.update("12345678901", validClient, null));
 
-        assertEquals("Client not found", exception.getMessage());
+            assertEquals("Client not found", exception.getMessage());
+            verify(clientRepository, never()).findByCpf(anyString());
+        }
     }
 
     @Test
@@ -352,13 +619,12 @@ class ClientServiceTest {
             validationUtil.when(() -> ValidationUtil.validarEmail(anyString())).thenReturn(true);
             foodUtils.when(() -> FoodUtils.limparString(anyString())).thenReturn("12345678901");
 
-            when(clientRepository.findByCpf("12345678901")).thenReturn(null);
-            when(clientRepository.save(any(Client.class))).thenReturn(validClient);
+            when(clientRepository.upsert(any(Client.class))).thenReturn(ClientUpsertResult.stored(validClient, true));
 
             Client result = clientService.createClient(validClient);
 
             assertNotNull(result);
-            verify(clientRepository).save(any(Client.class));
+            verify(clientRepository).upsert(any(Client.class));
         }
     }
 
@@ -0,0 +1,85 @@
+package br.com.five.seven.food.application.utils;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class ValidationUtilAllocationTest {
+
+    private static final int ITERATIONS = 200_000;
+
+    private static final String[] CPFS = {"12345678909", "123.456.789-09", "11111111111", "12345678900"};
+    private static final String[] EMAILS = {"john@gmail.com", "first.last+tag@domain.com", "user@@domain.com"};
+
+    private static com.sun.management.ThreadMXBean threadMXBean;
+
+    @BeforeAll
+    static void setUp() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @Test
+    void validarCPFShouldNotAllocate() {
+        run(() -> {
+            int valid = 0;
+            for (int i = 0; i < ITERATIONS; i++) {
+                valid += ValidationUtil.validarCPF(CPFS[i & 3]) ? 1 : 0;
+            }
+            return valid;
+        });
+
+        double bytesPerCall = measure(() -> {
+            int valid = 0;
+            for (int i = 0; i < ITERATIONS; i++) {
+                valid += ValidationUtil.validarCPF(CPFS[i & 3]) ? 1 : 0;
+            }
+            return valid;
+        });
+
+        assertTrue(bytesPerCall < 1.0, "validarCPF allocated " + bytesPerCall + " bytes per call");
+    }
+
+    @Test
+    void validarEmailShouldNotAllocate() {
+        run(() -> {
+            int valid = 0;
+            for (int i = 0; i < ITERATIONS; i++) {
+                valid += ValidationUtil.validarEmail(EMAILS[i % 3]) ? 1 : 0;
+            }
+            return valid;
+        });
+
+        double bytesPerCall = measure(() -> {
+            int valid = 0;
+            for (int i = 0; i < ITERATIONS; i++) {
+                valid += ValidationUtil.validarEmail(EMAILS[i % 3]) ? 1 : 0;
+            }
+            return valid;
+        });
+
+        assertTrue(bytesPerCall < 1.0, "validarEmail allocated " + bytesPerCall + " bytes per call");
+    }
+
+    private static double measure(Workload workload) {
+        long before = threadMXBean.getCurrentThreadAllocatedBytes();
+        run(workload);
+        long after = threadMXBean.getCurrentThreadAllocatedBytes();
+        return (double) (after - before) / ITERATIONS;
+    }
+
+    private static void run(Workload workload) {
+        assertTrue(workload.run() > 0);
+    }
+
+    @FunctionalInterface
+    private interface Workload {
+        int run();
+    }
+}
@@ -1,8 +1,12 @@
 package br.com.five.seven.food.application.utils;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -61,4 +65,91 @@ class ValidationUtilTest {
     void validarEmailWithMultipleInvalidEmailsShouldReturnFalse(String email) {
         assertFalse(ValidationUtil.validarEmail(email));
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "123.456.789-09",
+            "987.654.321-00",
+            " 111 222 333 96 "
+    })
+    void validarCPFWithFormattedCPFsShouldReturnTrue(String cpf) {
+        assertTrue(ValidationUtil.validarCPF(cpf));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "1234567890",
+            "123456789091",
+            "12345678900",
+            "12345678919",
+            "abc"
+    })
+    void validarCPFWithWrongLengthOrCheckDigitsShouldReturnFalse(String cpf) {
+        assertFalse(ValidationUtil.validarCPF(cpf));
+    }
+
+    @Test
+    void validarCPFAndEmailWithNullShouldReturnFalse() {
+        assertFalse(ValidationUtil.validarCPF(null));
+        assertFalse(ValidationUtil.validarEmail(null));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "first.last+tag@domain.com",
+            "under_score@domain-name.com"
+    })
+    void validarEmailWithPlusAndUnderscoreInLocalPartShouldReturnTrue(String email) {
+        assertTrue(ValidationUtil.validarEmail(email));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "   ",
+            "user@do_main.com",
+            "user@domain+tag.com",
+            "usér@domain.com"
+    })
+    void validarEmailWithCharactersOutsideAllowedSetShouldReturnFalse(String email) {
+        assertFalse(ValidationUtil.validarEmail(email));
+    }
+
+    @Test
+    void validarCPFAndEmailShouldAgreeWithRegexRules() {
+        Random random = new Random(42);
+        String alphabet = "0123456789.-@+_ aZ";
+        for (int i = 0; i < 50_000; i++) {
+            char[] chars = new char[random.nextInt(16)];
+            for (int j = 0; j < chars.length; j++) {
+                chars[j] = alphabet.charAt(random.nextInt(alphabet.length()));
+            }
+            String value = new String(chars);
+            assertEquals(regexCpf(value), ValidationUtil.validarCPF(value), value);
+            assertEquals(regexEmail(value), ValidationUtil.validarEmail(value), value);
+        }
+    }
+
+    private static boolean regexCpf(String cpf) {
+        cpf = cpf.replaceAll("[^0-9]", "");
+        if (cpf.length() != 11 || cpf.matches("(\\d)\\1{10}")) {
+            return false;
+        }
+        int soma = 0;
+        for (int i = 0; i < 9; i++) {
+            soma += (cpf.charAt(i) - '0') * (10 - i);
+        }
+        int primeiroDigito = 11 - (soma % 11) >= 10 ? 0 : 11 - (soma % 11);
+        soma = 0;
+        for (int i = 0; i < 10; i++) {
+            soma += (cpf.charAt(i) - '0') * (11 - i);
+        }
+        int segundoDigito = 11 - (soma % 11) >= 10 ? 0 : 11 - (soma % 11);
+        return primeiroDigito == cpf.charAt(9) - '0' && segundoDigito == cpf.charAt(10) - '0';
+    }
+
+    private static boolean regexEmail(String email) {
+        return !email.trim().isEmpty() && email.matches("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+$");
+    }
 }
@@ -0,0 +1,72 @@
+package br.com.five.seven.food.infra.aot;
+
+import br.com.five.seven.food.domain.repository.IClientRepository;
+import br.com.five.seven.food.infra.cache.CachingClientRepository;
+import br.com.five.seven.food.infra.cache.ClientCacheProperties;
+import br.com.five.seven.food.infra.persistence.entity.ClientEntity;
+import br.com.five.seven.food.infra.persistence.id.UuidV7Generator;
+import br.com.five.seven.food.infra.security.AuthCacheProperties;
+import br.com.five.seven.food.infra.security.CachingAuthenticationProvider;
+import br.com.five.seven.food.rest.response.ClientResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class NativeRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    NativeRuntimeHintsTest() {
+        new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void shouldRegisterPersistenceAndResponseTypes() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(ClientEntity.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(UuidV7Generator.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(ClientResponse.class, "getCpf").test(hints));
+    }
+
+    @Test
+    void shouldRegisterStatementCountingProxies() {
+        assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(Connection.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(PreparedStatement.class).test(hints));
+    }
+
+    @Test
+    void caffeineHintsShouldMatchTheClientCache() {
+        CachingClientRepository repository = new CachingClientRepository(mock(IClientRepository.class),
+                new ClientCacheProperties(100, Duration.ofMinutes(1)), new SimpleMeterRegistry());
+        Object cache = ReflectionTestUtils.getField(ReflectionTestUtils.getField(repository, "cache"), "cache");
+
+        assertEquals(NativeRuntimeHints.CAFFEINE_CACHE, cache.getClass().getName());
+        assertTrue(RuntimeHintsPredicates.reflection().onType(TypeReference.of(NativeRuntimeHints.CAFFEINE_CACHE)).test(hints));
+    }
+
+    @Test
+    void caffeineHintsShouldMatchTheAuthenticationCache() {
+        CachingAuthenticationProvider provider = new CachingAuthenticationProvider(mock(AuthenticationProvider.class),
+                new AuthCacheProperties(100, Duration.ofMinutes(1)));
+        Object cache = ReflectionTestUtils.getField(ReflectionTestUtils.getField(provider, "cache"), "cache");
+
+        assertEquals(NativeRuntimeHints.CAFFEINE_CACHE_NO_STATS, cache.getClass().getName());
+        assertTrue(RuntimeHintsPredicates.reflection().onType(TypeReference.of(NativeRuntimeHints.CAFFEINE_CACHE_NO_STATS)).test(hints));
+    }
+
+    @Test
+    void shouldRegisterSecondLevelCacheProviderAndConfiguration() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(TypeReference.of(NativeRuntimeHints.JCACHE_PROVIDER)).test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource("application.conf").test(hints));
+    }
+}
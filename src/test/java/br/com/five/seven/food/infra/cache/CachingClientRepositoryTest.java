@@ -0,0 +1,153 @@
+package br.com.five.seven.food.infra.cache;
+
+import br.com.five.seven.food.domain.model.Client;
+import br.com.five.seven.food.domain.model.ClientUpsertResult;
+import br.com.five.seven.food.domain.repository.IClientRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingClientRepositoryTest {
+
+    @Mock
+    private IClientRepository delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CachingClientRepository repository;
+
+    private Client client;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        repository = new CachingClientRepository(delegate, new ClientCacheProperties(100, Duration.ofMinutes(1)), meterRegistry);
+
+        client = new Client("1", "12345678909", "John Doe", "john@example.com", null);
+    }
+
+    @Test
+    void findByCpfShouldHitDatabaseOnlyOnce() {
+        when(delegate.findByCpf("12345678909")).thenReturn(client);
+
+        Client first = repository.findByCpf("12345678909");
+        Client second = repository.findByCpf("123.456.789-09");
+
+        assertEquals("John Doe", first.getName());
+        assertEquals("John Doe", second.getName());
+        assertNotSame(first, second);
+        verify(delegate, times(1)).findByCpf(any());
+        assertEquals(1, repository.stats().hitCount());
+        assertEquals(1, repository.stats().missCount());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void findByCpfShouldNotCacheMissingClients() {
+        when(delegate.findByCpf("12345678909")).thenReturn(null);
+
+        assertNull(repository.findByCpf("12345678909"));
+        assertNull(repository.findByCpf("12345678909"));
+
+        verify(delegate, times(2)).findByCpf("12345678909");
+    }
+
+    @Test
+    void cachedClientShouldNotBeChangedByCallers() {
+        when(delegate.findByCpf("12345678909")).thenReturn(client);
+
+        repository.findByCpf("12345678909").setName("Changed");
+
+        assertEquals("John Doe", repository.findByCpf("12345678909").getName());
+    }
+
+    @Test
+    void updateShouldRefreshCachedClientAndInvalidateOnMiss() {
+        when(delegate.findByCpf("12345678909")).thenReturn(client);
+        repository.findByCpf("12345678909");
+
+        Client updated = new Client("1", "12345678909", "Jane Doe", "jane@example.com", null);
+        when(delegate.update(updated, null)).thenReturn(ClientUpsertResult.stored(updated, false));
+        repository.update(updated, null);
+        assertEquals("Jane Doe", repository.findByCpf("12345678909").getName());
+
+        when(delegate.update(updated, null)).thenReturn(null);
+        repository.update(updated, null);
+        repository.findByCpf("12345678909");
+        verify(delegate, times(2)).findByCpf("12345678909");
+    }
+
+    @Test
+    void readRacingAnUpdateShouldNotCacheTheOldRow() {
+        Client updated = new Client("1", "12345678909", "Jane Doe", "jane@example.com", null);
+        when(delegate.update(updated, null)).thenReturn(ClientUpsertResult.stored(updated, false));
+        when(delegate.findByCpf("12345678909")).thenAnswer(invocation -> {
+            repository.update(updated, null);
+            return client;
+        });
+
+        assertEquals("John Doe", repository.findByCpf("12345678909").getName());
+
+        assertEquals("Jane Doe", repository.findByCpf("12345678909").getName());
+        verify(delegate, times(1)).findByCpf("12345678909");
+    }
+
+    @Test
+    void readRacingADeleteShouldNotCacheTheDeletedRow() {
+        when(delegate.findByCpf("12345678909")).thenAnswer(invocation -> {
+            repository.delete("12345678909");
+            return client;
+        });
+
+        repository.findByCpf("12345678909");
+        repository.findByCpf("12345678909");
+
+        verify(delegate, times(2)).findByCpf("12345678909");
+    }
+
+    @Test
+    void upsertAllShouldRefreshStoredClients() {
+        Client stored = new Client("1", "12345678909", "Jane Doe", "jane@example.com", null);
+        when(delegate.upsertAll(List.of(stored))).thenReturn(List.of(ClientUpsertResult.stored(stored, false)));
+
+        repository.upsertAll(List.of(stored));
+
+        assertEquals("Jane Doe", repository.findByCpf("12345678909").getName());
+        verify(delegate, never()).findByCpf(any());
+    }
+
+    @Test
+    void deleteShouldInvalidateCachedClient() {
+        when(delegate.findByCpf("12345678909")).thenReturn(client);
+        repository.findByCpf("12345678909");
+
+        repository.delete("12345678909");
+        repository.findByCpf("12345678909");
+
+        verify(delegate).delete("12345678909");
+        verify(delegate, times(2)).findByCpf("12345678909");
+    }
+
+    @Test
+    void deleteAllShouldInvalidateCachedClients() {
+        when(delegate.findByCpf("12345678909")).thenReturn(client);
+        repository.findByCpf("12345678909");
+
+        repository.deleteAll(List.of("123.456.789-09"));
+        repository.findByCpf("12345678909");
+
+        verify(delegate).deleteAll(List.of("123.456.789-09"));
+        verify(delegate, times(2)).findByCpf("12345678909");
+    }
+}
@@ -0,0 +1,197 @@
+package br.com.five.seven.food.infra.coalescing;
+
+import br.com.five.seven.food.domain.model.Client;
+import br.com.five.seven.food.domain.model.ClientUpsertResult;
+import br.com.five.seven.food.domain.repository.IClientRepository;
+import br.com.five.seven.food.infra.cache.CachingClientRepository;
+import br.com.five.seven.food.infra.cache.ClientCacheProperties;
+import br.com.five.seven.food.infra.persistence.routing.ReadYourWrites;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SingleFlightClientRepositoryTest {
+
+    @Mock
+    private IClientRepository delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private SingleFlightClientRepository repository;
+
+    private Client client;
+
+    private final CountDownLatch inside = new CountDownLatch(1);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        repository = new SingleFlightClientRepository(delegate, meterRegistry);
+        client = new Client("1", "12345678909", "John Doe", "john@example.com", null);
+    }
+
+    @Test
+    void concurrentLookupsOfTheSameCpfShouldShareOneQuery() throws Exception {
+        when(delegate.findByCpf("12345678909")).thenAnswer(invocation -> blockUntilReleased(client));
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Client> first = executor.submit(() -> repository.findByCpf("12345678909"));
+            assertTrue(inside.await(5, TimeUnit.SECONDS));
+            List<Future<Client>> others = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                others.add(executor.submit(() -> repository.findByCpf("123.456.789-09")));
+            }
+            waitForCoalesced(3);
+            release.countDown();
+
+            assertSame(client, first.get(5, TimeUnit.SECONDS));
+            for (Future<Client> other : others) {
+                Client shared = other.get(5, TimeUnit.SECONDS);
+                assertEquals("John Doe", shared.getName());
+                assertNotSame(client, shared);
+            }
+        }
+        verify(delegate, times(1)).findByCpf(any());
+        assertEquals(1.0, counter("executed"));
+    }
+
+    @Test
+    void failedLookupShouldFailEveryWaitingCaller() throws Exception {
+        when(delegate.findByCpf("12345678909")).thenAnswer(invocation -> {
+            blockUntilReleased(null);
+            throw new IllegalStateException("boom");
+        });
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Client> first = executor.submit(() -> repository.findByCpf("12345678909"));
+            assertTrue(inside.await(5, TimeUnit.SECONDS));
+            Future<Client> second = executor.submit(() -> repository.findByCpf("12345678909"));
+            waitForCoalesced(1);
+            release.countDown();
+
+            ExecutionException error = assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, error.getCause());
+            assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS));
+        }
+        verify(delegate, times(1)).findByCpf(any());
+    }
+
+    @Test
+    void writeShouldDetachTheLookupInFlight() throws Exception {
+        Client updated = new Client("1", "12345678909", "Jane Doe", "jane@example.com", null);
+        when(delegate.findByCpf("12345678909"))
+                .thenAnswer(invocation -> blockUntilReleased(client))
+                .thenReturn(updated);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Client> first = executor.submit(() -> repository.findByCpf("12345678909"));
+            assertTrue(inside.await(5, TimeUnit.SECONDS));
+
+            repository.update(updated, null);
+
+            assertEquals("Jane Doe", repository.findByCpf("12345678909").getName());
+            release.countDown();
+            assertEquals("John Doe", first.get(5, TimeUnit.SECONDS).getName());
+        }
+        verify(delegate, times(2)).findByCpf("12345678909");
+        assertEquals(0.0, counter("coalesced"));
+    }
+
+    @Test
+    void requestThatAlreadyWroteShouldNotJoinALookupInFlight() throws Exception {
+        Client updated = new Client("1", "12345678909", "Jane Doe", "jane@example.com", null);
+        when(delegate.findByCpf("12345678909"))
+                .thenAnswer(invocation -> blockUntilReleased(client))
+                .thenReturn(updated);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Client> first = executor.submit(() -> repository.findByCpf("12345678909"));
+            assertTrue(inside.await(5, TimeUnit.SECONDS));
+
+            Client own = executor.submit(() -> {
+                ReadYourWrites.markWritten();
+                return repository.findByCpf("12345678909");
+            }).get(5, TimeUnit.SECONDS);
+
+            assertEquals("Jane Doe", own.getName());
+            release.countDown();
+            first.get(5, TimeUnit.SECONDS);
+        }
+        assertEquals(1.0, counter("bypassed"));
+        assertEquals(0.0, counter("coalesced"));
+    }
+
+    @Test
+    void cacheAboveShouldNotStoreALookupThatAWriteOvertook() throws Exception {
+        CachingClientRepository cache = new CachingClientRepository(repository,
+                new ClientCacheProperties(100, Duration.ofMinutes(1)), meterRegistry);
+        Client updated = new Client("1", "12345678909", "Jane Doe", "jane@example.com", null);
+        when(delegate.findByCpf("12345678909")).thenAnswer(invocation -> blockUntilReleased(client));
+        when(delegate.update(updated, null)).thenReturn(ClientUpsertResult.stored(updated, false));
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Client> first = executor.submit(() -> cache.findByCpf("12345678909"));
+            assertTrue(inside.await(5, TimeUnit.SECONDS));
+            Future<Client> joined = executor.submit(() -> cache.findByCpf("123.456.789-09"));
+            waitForCoalesced(1);
+
+            cache.update(updated, null);
+            release.countDown();
+
+            assertEquals("John Doe", first.get(5, TimeUnit.SECONDS).getName());
+            assertEquals("John Doe", joined.get(5, TimeUnit.SECONDS).getName());
+        }
+        assertEquals("Jane Doe", cache.findByCpf("12345678909").getName());
+        verify(delegate, times(1)).findByCpf(any());
+    }
+
+    @Test
+    void finishedLookupsShouldNotBeReused() {
+        when(delegate.findByCpf("12345678909")).thenReturn(client);
+
+        repository.findByCpf("12345678909");
+        repository.findByCpf("12345678909");
+
+        verify(delegate, times(2)).findByCpf("12345678909");
+        assertEquals(2.0, counter("executed"));
+        assertEquals(0.0, counter("coalesced"));
+    }
+
+    private Client blockUntilReleased(Client result) throws InterruptedException {
+        inside.countDown();
+        assertTrue(release.await(5, TimeUnit.SECONDS));
+        return result;
+    }
+
+    private double counter(String result) {
+        return meterRegistry.get(SingleFlightClientRepository.COUNTER_NAME).tag("result", result).counter().count();
+    }
+
+    private void waitForCoalesced(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (counter("coalesced") < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, counter("coalesced"));
+    }
+}
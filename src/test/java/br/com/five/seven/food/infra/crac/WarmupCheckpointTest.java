@@ -0,0 +1,109 @@
+package br.com.five.seven.food.infra.crac;
+
+import br.com.five.seven.food.domain.repository.IClientRepository;
+import br.com.five.seven.food.domain.model.Client;
+import br.com.five.seven.food.infra.cache.CachingClientRepository;
+import br.com.five.seven.food.infra.cache.ClientCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class WarmupCheckpointTest {
+
+    private RestClient.Builder builder;
+    private MockRestServiceServer server;
+    private ApplicationReadyEvent event;
+    private final AtomicInteger checkpoints = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        builder = RestClient.builder();
+        server = MockRestServiceServer.bindTo(builder).build();
+        ConfigurableApplicationContext context = mock(ConfigurableApplicationContext.class);
+        when(context.getEnvironment()).thenReturn(new MockEnvironment().withProperty("local.server.port", "8181"));
+        event = new ApplicationReadyEvent(new SpringApplication(), new String[0], context, Duration.ZERO);
+    }
+
+    @Test
+    void shouldDoNothingWhenDisabled() {
+        new WarmupCheckpoint(new CheckpointProperties(false, 1), builder, checkpoints::incrementAndGet).onApplicationEvent(event);
+
+        assertEquals(0, checkpoints.get());
+        server.verify();
+    }
+
+    @Test
+    void shouldWarmUpThenCheckpoint() {
+        server.expect(requestTo("http://localhost:8181/v1/clients?size=20"))
+                .andRespond(withSuccess("{\"items\":[{\"cpf\":\"12345678909\"}],\"nextCursor\":\"abc\"}", MediaType.APPLICATION_JSON));
+        server.expect(requestTo("http://localhost:8181/v1/clients/12345678909")).andRespond(withSuccess());
+        server.expect(method(HttpMethod.POST)).andRespond(withStatus(HttpStatus.BAD_REQUEST));
+        server.expect(requestTo("http://localhost:8181/health")).andRespond(withSuccess());
+        server.expect(requestTo("http://localhost:8181/v1/clients?size=20&cursor=abc"))
+                .andRespond(withSuccess("{\"items\":[],\"nextCursor\":null}", MediaType.APPLICATION_JSON));
+        server.expect(method(HttpMethod.POST)).andRespond(withStatus(HttpStatus.BAD_REQUEST));
+        server.expect(requestTo("http://localhost:8181/health")).andRespond(withSuccess());
+
+        new WarmupCheckpoint(new CheckpointProperties(true, 2), builder, checkpoints::incrementAndGet).onApplicationEvent(event);
+
+        server.verify();
+        assertEquals(1, checkpoints.get());
+    }
+
+    @Test
+    void shouldKeepRunningWhenTheJvmCannotCheckpoint() {
+        server.expect(requestTo("http://localhost:8181/v1/clients?size=20"))
+                .andRespond(withSuccess("{\"items\":[]}", MediaType.APPLICATION_JSON));
+        server.expect(method(HttpMethod.POST)).andRespond(withStatus(HttpStatus.BAD_REQUEST));
+        server.expect(requestTo("http://localhost:8181/health")).andRespond(withSuccess());
+
+        WarmupCheckpoint checkpoint = new WarmupCheckpoint(new CheckpointProperties(true, 1), builder, () -> {
+            throw new UnsupportedOperationException();
+        });
+
+        assertDoesNotThrow(() -> checkpoint.onApplicationEvent(event));
+        server.verify();
+    }
+
+    @Test
+    void stoppingTheLifecycleShouldEmptyTheClientAndSecondLevelCaches() {
+        IClientRepository delegate = mock(IClientRepository.class);
+        when(delegate.findByCpf("12345678909")).thenReturn(new Client("1", "12345678909", "John Doe", "john@example.com", null));
+        CachingClientRepository repository = new CachingClientRepository(delegate,
+                new ClientCacheProperties(100, Duration.ofMinutes(1)), new SimpleMeterRegistry());
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        Cache secondLevelCache = mock(Cache.class);
+        when(entityManagerFactory.getCache()).thenReturn(secondLevelCache);
+        ClientCacheCheckpointLifecycle lifecycle = new ClientCacheCheckpointLifecycle(repository, entityManagerFactory);
+        lifecycle.start();
+        repository.findByCpf("12345678909");
+
+        lifecycle.stop();
+        repository.findByCpf("12345678909");
+
+        assertFalse(lifecycle.isRunning());
+        verify(delegate, times(2)).findByCpf("12345678909");
+        verify(secondLevelCache).evictAll();
+    }
+}
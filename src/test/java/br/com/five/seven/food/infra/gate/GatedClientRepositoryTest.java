@@ -0,0 +1,150 @@
+package br.com.five.seven.food.infra.gate;
+
+import br.com.five.seven.food.domain.model.Client;
+import br.com.five.seven.food.domain.repository.IClientRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GatedClientRepositoryTest {
+
+    @Mock
+    private IClientRepository delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private Client client;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        client = new Client("1", "12345678909", "John Doe", "john@example.com", null);
+    }
+
+    @Test
+    void shouldDelegateAndReleasePermit() {
+        GatedClientRepository repository = gated(1, Duration.ofSeconds(1));
+        when(delegate.findByCpf("12345678909")).thenReturn(client);
+
+        assertSame(client, repository.findByCpf("12345678909"));
+        assertSame(client, repository.findByCpf("12345678909"));
+
+        assertEquals(0.0, meterRegistry.get("food.db.gate.active").gauge().value());
+        assertEquals(2, meterRegistry.get("food.db.gate.wait").timer().count());
+    }
+
+    @Test
+    void shouldReleasePermitWhenDelegateFails() {
+        GatedClientRepository repository = gated(1, Duration.ofSeconds(1));
+        when(delegate.findById("1")).thenThrow(new IllegalStateException("boom"));
+
+        assertThrows(IllegalStateException.class, () -> repository.findById("1"));
+
+        assertEquals(0.0, meterRegistry.get("food.db.gate.active").gauge().value());
+    }
+
+    @Test
+    void shouldQueueCallersBeyondPermits() throws Exception {
+        GatedClientRepository repository = gated(1, Duration.ofSeconds(5));
+        CountDownLatch inside = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.findById("1")).thenAnswer(invocation -> {
+            inside.countDown();
+            release.await();
+            return client;
+        });
+        when(delegate.findById("2")).thenReturn(client);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Client> first = executor.submit(() -> repository.findById("1"));
+            assertTrue(inside.await(5, TimeUnit.SECONDS));
+            Future<Client> second = executor.submit(() -> repository.findById("2"));
+
+            waitForQueue(1);
+            assertFalse(second.isDone());
+            assertEquals(1.0, meterRegistry.get("food.db.gate.active").gauge().value());
+
+            release.countDown();
+            assertSame(client, first.get(5, TimeUnit.SECONDS));
+            assertSame(client, second.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(0.0, meterRegistry.get("food.db.gate.waiting").gauge().value());
+    }
+
+    @Test
+    void shouldFailWhenWaitExceedsMaxWait() throws Exception {
+        GatedClientRepository repository = gated(1, Duration.ofMillis(50));
+        CountDownLatch inside = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.findById("1")).thenAnswer(invocation -> {
+            inside.countDown();
+            release.await();
+            return client;
+        });
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            executor.submit(() -> repository.findById("1"));
+            assertTrue(inside.await(5, TimeUnit.SECONDS));
+
+            assertThrows(DbGateTimeoutException.class, () -> repository.findByCpf("12345678909"));
+            assertEquals(1.0, meterRegistry.get("food.db.gate.timeouts").counter().count());
+            release.countDown();
+        }
+        verify(delegate, never()).findByCpf(any());
+    }
+
+    @Test
+    void exportsShouldNotHoldTheRequestPermitsAndShouldBeBoundedOnTheirOwn() throws Exception {
+        GatedClientRepository repository = gated(1, Duration.ofMillis(50));
+        CountDownLatch inside = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            inside.countDown();
+            release.await();
+            return null;
+        }).when(delegate).streamAll(any());
+        when(delegate.findByCpf("12345678909")).thenReturn(client);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<?> export = executor.submit(() -> repository.streamAll(exported -> {
+            }));
+            assertTrue(inside.await(5, TimeUnit.SECONDS));
+
+            assertSame(client, repository.findByCpf("12345678909"));
+            assertEquals(1.0, meterRegistry.get("food.db.gate.exports.active").gauge().value());
+            assertThrows(DbGateTimeoutException.class, () -> repository.streamAll(exported -> {
+            }));
+
+            release.countDown();
+            export.get(5, TimeUnit.SECONDS);
+        }
+        verify(delegate, times(1)).streamAll(any());
+        assertEquals(0.0, meterRegistry.get("food.db.gate.exports.active").gauge().value());
+    }
+
+    private GatedClientRepository gated(int permits, Duration maxWait) {
+        return new GatedClientRepository(delegate, permits, new DbGateProperties(true, permits, maxWait, 1), meterRegistry);
+    }
+
+    private void waitForQueue(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("food.db.gate.waiting").gauge().value() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, meterRegistry.get("food.db.gate.waiting").gauge().value());
+    }
+}
@@ -0,0 +1,167 @@
+package br.com.five.seven.food.infra.health;
+
+import br.com.five.seven.food.infra.health.HealthSnapshot.ProbeStatus;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class HealthProbeTest {
+
+    @Mock
+    private HikariDataSource dataSource;
+
+    @Mock
+    private HikariPoolMXBean pool;
+
+    @Mock
+    private Connection connection;
+
+    private MutableClock clock;
+    private HealthProbe probe;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(dataSource.isWrapperFor(HikariDataSource.class)).thenReturn(true);
+        when(dataSource.unwrap(HikariDataSource.class)).thenReturn(dataSource);
+        when(dataSource.getHikariPoolMXBean()).thenReturn(pool);
+        when(dataSource.getMaximumPoolSize()).thenReturn(10);
+        clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        probe = new HealthProbe(dataSource, new HealthProperties(Duration.ofSeconds(5), Duration.ofMillis(200), Duration.ofSeconds(30)), clock);
+    }
+
+    @Test
+    void shouldNotBeReadyBeforeTheFirstCheck() {
+        HealthSnapshot snapshot = probe.snapshot();
+
+        assertFalse(probe.isReady(snapshot));
+        assertTrue(probe.isLive(snapshot));
+    }
+
+    @Test
+    void shouldBeReadyWhenTheDatabaseAnswers() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.isValid(anyInt())).thenReturn(true);
+        when(pool.getActiveConnections()).thenReturn(3);
+
+        probe.probe();
+
+        HealthSnapshot snapshot = probe.snapshot();
+        assertTrue(probe.isReady(snapshot));
+        assertEquals(ProbeStatus.UP, snapshot.database());
+        assertEquals(3, snapshot.activeConnections());
+        assertEquals(10, snapshot.maxConnections());
+        verify(connection).close();
+    }
+
+    @Test
+    void unreachableDatabaseShouldFailReadinessButNotLiveness() throws SQLException {
+        when(dataSource.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+        probe.probe();
+
+        HealthSnapshot snapshot = probe.snapshot();
+        assertFalse(probe.isReady(snapshot));
+        assertTrue(probe.isLive(snapshot));
+        assertEquals(ProbeStatus.DOWN, snapshot.database());
+        assertEquals("Connection refused", snapshot.detail());
+    }
+
+    @Test
+    void hungDatabaseShouldTimeOutWithoutBlockingTheNextCheck() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(dataSource.getConnection()).thenAnswer(invocation -> {
+            release.await();
+            return connection;
+        });
+
+        probe.probe();
+        assertEquals(ProbeStatus.DOWN, probe.snapshot().database());
+        assertTrue(probe.snapshot().detail().contains("timed out"));
+
+        clock.advance(Duration.ofSeconds(5));
+        probe.probe();
+        assertEquals("previous database check still running", probe.snapshot().detail());
+        assertTrue(probe.isLive(probe.snapshot()));
+        verify(dataSource, times(1)).getConnection();
+        release.countDown();
+    }
+
+    @Test
+    void saturatedPoolShouldBeReportedWithoutFailingReadinessOrAskingForAConnection() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.isValid(anyInt())).thenReturn(true);
+        probe.probe();
+        when(pool.getActiveConnections()).thenReturn(10);
+        when(pool.getThreadsAwaitingConnection()).thenReturn(4);
+
+        clock.advance(Duration.ofSeconds(5));
+        probe.probe();
+
+        HealthSnapshot snapshot = probe.snapshot();
+        assertEquals(ProbeStatus.SATURATED, snapshot.pool());
+        assertEquals(ProbeStatus.UP, snapshot.database());
+        assertEquals(4, snapshot.waitingThreads());
+        assertTrue(probe.isReady(snapshot));
+        verify(dataSource, times(1)).getConnection();
+    }
+
+    @Test
+    void staleSnapshotShouldFailLiveness() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.isValid(anyInt())).thenReturn(true);
+        probe.probe();
+
+        clock.advance(Duration.ofSeconds(31));
+
+        assertFalse(probe.isLive(probe.snapshot()));
+        assertFalse(probe.isReady(probe.snapshot()));
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package br.com.five.seven.food.infra.metrics;
+
+import br.com.five.seven.food.application.ports.in.ClientUseCase;
+import br.com.five.seven.food.domain.model.Client;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.xml.bind.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MeteredClientUseCaseTest {
+
+    @Mock
+    private ClientUseCase delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private MeteredClientUseCase useCase;
+
+    private Client client;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        useCase = new MeteredClientUseCase(delegate, meterRegistry);
+        client = new Client("1", "12345678909", "John Doe", "john@example.com", null);
+    }
+
+    @Test
+    void shouldTimeSuccessfulCalls() {
+        when(delegate.findByCpf("12345678909")).thenAnswer(invocation -> {
+            StatementCounter.increment();
+            return client;
+        });
+
+        assertSame(client, useCase.findByCpf("12345678909"));
+
+        Timer timer = meterRegistry.get(MeteredClientUseCase.TIMER_NAME)
+                .tag("operation", "findByCpf").tag("exception", "none").timer();
+        assertEquals(1, timer.count());
+        assertEquals(1.0, meterRegistry.get(MeteredClientUseCase.STATEMENTS_NAME)
+                .tag("operation", "findByCpf").summary().totalAmount());
+    }
+
+    @Test
+    void shouldCountErrorsByExceptionType() throws ValidationException {
+        when(delegate.createClient(client)).thenThrow(new ValidationException("Client name cannot be empty"));
+
+        assertThrows(ValidationException.class, () -> useCase.createClient(client));
+
+        assertEquals(1.0, meterRegistry.get(MeteredClientUseCase.ERRORS_NAME)
+                .tag("operation", "createClient").tag("exception", "ValidationException").counter().count());
+        assertEquals(1, meterRegistry.get(MeteredClientUseCase.TIMER_NAME)
+                .tag("operation", "createClient").tag("exception", "ValidationException").timer().count());
+    }
+
+    @Test
+    void shouldPropagateRuntimeExceptions() {
+        doThrow(new IllegalStateException("boom")).when(delegate).delete("12345678909");
+
+        assertThrows(IllegalStateException.class, () -> useCase.delete("12345678909"));
+
+        assertEquals(1.0, meterRegistry.get(MeteredClientUseCase.ERRORS_NAME)
+                .tag("operation", "delete").tag("exception", "IllegalStateException").counter().count());
+    }
+}
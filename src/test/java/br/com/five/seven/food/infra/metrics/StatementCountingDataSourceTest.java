@@ -0,0 +1,63 @@
+package br.com.five.seven.food.infra.metrics;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StatementCountingDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement preparedStatement;
+
+    @Mock
+    private Statement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    @Test
+    void shouldCountExecutedStatementsOnCurrentThread() throws Exception {
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("select 1")).thenReturn(preparedStatement);
+        when(connection.createStatement()).thenReturn(statement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        StatementCountingDataSource dataSource = new StatementCountingDataSource(target);
+        long before = StatementCounter.current();
+
+        try (Connection wrapped = dataSource.getConnection()) {
+            PreparedStatement prepared = wrapped.prepareStatement("select 1");
+            assertSame(resultSet, prepared.executeQuery());
+            prepared.setString(1, "ignored");
+            wrapped.createStatement().execute("select 2");
+        }
+
+        assertEquals(2, StatementCounter.current() - before);
+        verify(connection).close();
+    }
+
+    @Test
+    void shouldUnwrapToTarget() throws Exception {
+        when(target.isWrapperFor(HikariDataSource.class)).thenReturn(true);
+        StatementCountingDataSource dataSource = new StatementCountingDataSource(target);
+
+        assertTrue(dataSource.isWrapperFor(HikariDataSource.class));
+    }
+}
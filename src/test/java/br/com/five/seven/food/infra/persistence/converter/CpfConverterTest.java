@@ -0,0 +1,36 @@
+package br.com.five.seven.food.infra.persistence.converter;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CpfConverterTest {
+
+    private final CpfConverter converter = new CpfConverter();
+
+    @Test
+    void shouldStoreCpfAsNumber() {
+        assertEquals(12345678909L, converter.convertToDatabaseColumn("12345678909"));
+        assertEquals(12345678909L, converter.convertToDatabaseColumn("123.456.789-09"));
+        assertEquals(191L, converter.convertToDatabaseColumn("00000000191"));
+    }
+
+    @Test
+    void shouldRenderElevenDigitsWithLeadingZeros() {
+        assertEquals("00000000191", converter.convertToEntityAttribute(191L));
+        assertEquals("12345678909", converter.convertToEntityAttribute(12345678909L));
+    }
+
+    @Test
+    void shouldRoundTrip() {
+        assertEquals("01234567890", converter.convertToEntityAttribute(converter.convertToDatabaseColumn("01234567890")));
+    }
+
+    @Test
+    void shouldHandleMissingValues() {
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToDatabaseColumn(""));
+        assertNull(converter.convertToDatabaseColumn("123456789012"));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+}
@@ -0,0 +1,52 @@
+package br.com.five.seven.food.infra.persistence.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7Test {
+
+    @Test
+    void shouldGenerateVersion7WithRfcVariant() {
+        UUID id = UuidV7.next();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+    }
+
+    @Test
+    void shouldEmbedCurrentTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID id = UuidV7.next();
+        long after = System.currentTimeMillis();
+
+        long millis = id.getMostSignificantBits() >>> 16;
+        assertTrue(millis >= before && millis <= after + 1, "timestamp " + millis);
+    }
+
+    @Test
+    void shouldBeStrictlyIncreasingWhenComparedAsUnsignedBytes() {
+        Set<UUID> seen = new HashSet<>();
+        UUID previous = UuidV7.next();
+        for (int i = 0; i < 50_000; i++) {
+            UUID next = UuidV7.next();
+            assertTrue(next.toString().compareTo(previous.toString()) > 0, previous + " >= " + next);
+            assertTrue(seen.add(next));
+            previous = next;
+        }
+    }
+
+    @Test
+    void parseShouldReturnNullForNonUuidValues() {
+        UUID id = UuidV7.next();
+
+        assertEquals(id, UuidV7.parse(id.toString()));
+        assertNull(UuidV7.parse(null));
+        assertNull(UuidV7.parse(""));
+        assertNull(UuidV7.parse("1"));
+    }
+}
@@ -0,0 +1,76 @@
+package br.com.five.seven.food.infra.persistence.repository.impl;
+
+import br.com.five.seven.food.domain.model.Client;
+import br.com.five.seven.food.infra.persistence.repository.ClientJdbcRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClientJdbcRepositoryTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private ClientJdbcRepository clientJdbcRepository;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void upsertAllShouldSendOneStatementPerChunk() {
+        Client client = new Client(null, "12345678909", "John Doe", "john@example.com", null);
+        client.setCreatedAt(LocalDateTime.now());
+        List<Client> clients = Collections.nCopies(ClientJdbcRepository.CHUNK_SIZE * 2 + 1, client);
+        when(jdbcTemplate.query(anyString(), any(PreparedStatementSetter.class), any(RowMapper.class))).thenReturn(List.of());
+
+        clientJdbcRepository.upsertAll(clients);
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, times(3)).query(sql.capture(), any(PreparedStatementSetter.class), any(RowMapper.class));
+        assertEquals(ClientJdbcRepository.CHUNK_SIZE, countRows(sql.getAllValues().get(0)));
+        assertEquals(1, countRows(sql.getAllValues().get(2)));
+        assertTrue(sql.getValue().contains("ON CONFLICT (cpf) DO UPDATE"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deleteAllShouldSendOneArrayStatementPerChunk() throws SQLException {
+        List<String> cpfs = Collections.nCopies(ClientJdbcRepository.CHUNK_SIZE + 1, "12345678909");
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(RowMapper.class))).thenReturn(List.of());
+
+        clientJdbcRepository.deleteAll(cpfs);
+
+        ArgumentCaptor<PreparedStatementCreator> statements = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+        verify(jdbcTemplate, times(2)).query(statements.capture(), any(RowMapper.class));
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenReturn(mock(PreparedStatement.class));
+        statements.getValue().createPreparedStatement(connection);
+        verify(connection).prepareStatement(
+                "DELETE FROM tb_client WHERE cpf = ANY(?) RETURNING id, cpf, created_at, updated_at");
+        verify(connection).createArrayOf("bigint", new Long[]{12345678909L});
+    }
+
+    private int countRows(String sql) {
+        return sql.split("\\(\\?, \\?, \\?, \\?, \\?, \\?\\)", -1).length - 1;
+    }
+}
@@ -1,19 +1,41 @@
 package br.com.five.seven.food.infra.persistence.repository.impl;
 
 import br.com.five.seven.food.domain.model.Client;
+import br.com.five.seven.food.domain.model.ClientDeleteResult;
 import br.com.five.seven.food.infra.persistence.entity.ClientEntity;
+import br.com.five.seven.food.domain.model.ClientUpsertResult;
+import br.com.five.seven.food.domain.model.ClientVersion;
+import br.com.five.seven.food.infra.persistence.repository.ClientJdbcRepository;
 import br.com.five.seven.food.infra.persistence.repository.ClientRepositoryAdapterImpl;
 import br.com.five.seven.food.infra.persistence.repository.ClienteRepository;
 import br.com.five.seven.food.rest.mapper.ClientMapper;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SimpleNaturalIdLoadAccess;
+import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
+import org.hibernate.persister.entity.EntityPersister;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -22,153 +44,300 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class ClientRepositoryAdapterImplTest {
 
+    private static final String ID = "0190b6a4-3c2e-7d1f-9a4b-5e6f7a8b9c0d";
+    private static final UUID UUID_ID = UUID.fromString(ID);
+
     @Mock
     private ClienteRepository clientRepository;
 
     @Mock
     private ClientMapper clientMapper;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ClientJdbcRepository clientJdbcRepository;
+
     @InjectMocks
     private ClientRepositoryAdapterImpl clientRepositoryAdapter;
 
     private Client validClient;
     private ClientEntity validClientEntity;
+    private SimpleNaturalIdLoadAccess<ClientEntity> naturalIdLoadAccess;
+    private Cache secondLevelCache;
 
     @BeforeEach
     void setUp() {
         validClient = new Client();
-        validClient.setId("1");
+        validClient.setId(ID);
         validClient.setName("John Doe");
         validClient.setCpf("12345678901");
         validClient.setEmail("john@example.com");
 
         validClientEntity = new ClientEntity();
-        validClientEntity.setId("1");
+        validClientEntity.setId(UUID_ID);
         validClientEntity.setName("John Doe");
         validClientEntity.setCpf("12345678901");
         validClientEntity.setEmail("john@example.com");
     }
 
     @Test
-    void saveWithNewClientShouldGenerateIdAndReturnSavedClient() {
-        Client clientWithoutId = new Client();
-        clientWithoutId.setId("1");
-        clientWithoutId.setName("Jane Doe");
-        clientWithoutId.setCpf("98765432100");
-        clientWithoutId.setEmail("jane@example.com");
+    void upsertAllShouldDelegateToJdbcRepository() {
+        List<ClientUpsertResult> results = List.of(ClientUpsertResult.stored(validClient, true));
+        when(clientJdbcRepository.upsertAll(List.of(validClient))).thenReturn(results);
+        givenSecondLevelCache();
 
-        when(clientRepository.save(any(ClientEntity.class))).thenReturn(validClientEntity);
-        when(clientMapper.entityToDomain(validClientEntity)).thenReturn(validClient);
+        assertEquals(results, clientRepositoryAdapter.upsertAll(List.of(validClient)));
+        verify(clientRepository, never()).save(any());
+    }
 
-        Client result = clientRepositoryAdapter.save(clientWithoutId);
+    @Test
+    void upsertShouldEvictStoredClientFromSecondLevelCache() {
+        ClientUpsertResult result = ClientUpsertResult.stored(validClient, false);
+        when(clientJdbcRepository.upsert(validClient)).thenReturn(result);
+        givenSecondLevelCache();
 
-        assertNotNull(result);
-        assertNotNull(clientWithoutId.getId());
-        verify(clientRepository).save(any(ClientEntity.class));
-        verify(clientMapper).entityToDomain(validClientEntity);
+        assertEquals(result, clientRepositoryAdapter.upsert(validClient));
+        verify(secondLevelCache).evict(ClientEntity.class, UUID_ID);
     }
 
     @Test
-    void saveWithExistingClientShouldKeepIdAndReturnSavedClient() {
-        when(clientRepository.save(any(ClientEntity.class))).thenReturn(validClientEntity);
-        when(clientMapper.entityToDomain(validClientEntity)).thenReturn(validClient);
-
-        Client result = clientRepositoryAdapter.save(validClient);
+    void upsertWithInvalidClientShouldNotTouchSecondLevelCache() {
+        ClientUpsertResult result = ClientUpsertResult.invalid("123", "invalid cpf");
+        when(clientJdbcRepository.upsert(validClient)).thenReturn(result);
 
-        assertNotNull(result);
-        assertEquals("1", validClient.getId());
-        verify(clientRepository).save(any(ClientEntity.class));
-        verify(clientMapper).entityToDomain(validClientEntity);
+        assertEquals(result, clientRepositoryAdapter.upsert(validClient));
+        verify(entityManager, never()).getEntityManagerFactory();
     }
 
     @Test
-    void findAllShouldReturnAllClients() {
-        ClientEntity client2Entity = new ClientEntity();
-        client2Entity.setId("2");
-        client2Entity.setName("Jane Doe");
-
+    void findAllShouldReturnProjectedClients() {
         Client client2 = new Client();
-        client2.setId("2");
+        client2.setId("0190b6a4-3c2e-7d1f-9a4b-5e6f7a8b9c0e");
         client2.setName("Jane Doe");
-
-        List<ClientEntity> entityList = List.of(validClientEntity, client2Entity);
-        when(clientRepository.findAll()).thenReturn(entityList);
-        when(clientMapper.entityToDomain(validClientEntity)).thenReturn(validClient);
-        when(clientMapper.entityToDomain(client2Entity)).thenReturn(client2);
+        when(clientRepository.findAllClients()).thenReturn(List.of(validClient, client2));
 
         List<Client> result = clientRepositoryAdapter.findAll();
 
-        assertNotNull(result);
-        assertEquals(2, result.size());
-        verify(clientRepository).findAll();
-        verify(clientMapper, times(2)).entityToDomain(any(ClientEntity.class));
+        assertEquals(List.of(validClient, client2), result);
+        verify(clientRepository, never()).findAll();
+        verifyNoInteractions(clientMapper, entityManager);
+    }
+
+    @Test
+    void findPageShouldQueryAfterIdWithLimit() {
+        UUID after = UUID.fromString("0190b6a4-0000-7000-8000-000000000000");
+        when(clientRepository.findClientsAfter(after, Limit.of(10))).thenReturn(List.of(validClient));
+
+        List<Client> result = clientRepositoryAdapter.findPage(after.toString(), 10);
+
+        assertEquals(1, result.size());
+        assertEquals(ID, result.get(0).getId());
+        verifyNoInteractions(clientMapper);
+    }
+
+    @Test
+    void findPageWithoutCursorShouldStartFromLowestId() {
+        when(clientRepository.findClientsAfter(new UUID(0, 0), Limit.of(10))).thenReturn(List.of());
+
+        assertTrue(clientRepositoryAdapter.findPage("", 10).isEmpty());
+    }
+
+    @Test
+    void findPageWithNonUuidCursorShouldReturnEmptyPage() {
+        assertTrue(clientRepositoryAdapter.findPage("not-a-uuid", 10).isEmpty());
+        verifyNoInteractions(clientRepository);
+    }
+
+    @Test
+    void searchShouldEscapeLikeWildcardsAndLowercaseTheQuery() {
+        when(clientRepository.searchClientsAfter("%50\\%\\_off\\_%", new UUID(0, 0), Limit.of(10))).thenReturn(List.of(validClient));
+
+        assertEquals(List.of(validClient), clientRepositoryAdapter.search("50%_OFF_", null, 10));
+        InOrder inOrder = inOrder(clientRepository);
+        inOrder.verify(clientRepository).forceCustomPlans();
+        inOrder.verify(clientRepository).searchClientsAfter(any(), any(), any());
+    }
+
+    @Test
+    void searchWithNonUuidCursorShouldReturnEmptyPage() {
+        assertTrue(clientRepositoryAdapter.search("john", "not-a-uuid", 10).isEmpty());
+        verifyNoInteractions(clientRepository);
+    }
+
+    @Test
+    void streamAllShouldHandEachProjectedClientToConsumer() {
+        when(clientRepository.streamAllClients()).thenReturn(Stream.of(validClient));
+        List<Client> exported = new ArrayList<>();
+
+        clientRepositoryAdapter.streamAll(exported::add);
+
+        assertEquals(List.of(validClient), exported);
+        verifyNoInteractions(clientMapper, entityManager);
     }
 
     @Test
     void findByCpfWithValidCpfShouldReturnClient() {
-        when(clientRepository.findByCpf("12345678901")).thenReturn(Optional.of(validClientEntity));
+        givenNaturalIdLoad("123.456.789-01", validClientEntity);
         when(clientMapper.entityToDomain(validClientEntity)).thenReturn(validClient);
 
-        Client result = clientRepositoryAdapter.findByCpf("12345678901");
+        Client result = clientRepositoryAdapter.findByCpf("123.456.789-01");
 
         assertNotNull(result);
         assertEquals("12345678901", result.getCpf());
-        verify(clientRepository).findByCpf("12345678901");
+        verify(naturalIdLoadAccess).load("12345678901");
         verify(clientMapper).entityToDomain(validClientEntity);
     }
 
     @Test
-    void findByCpfWithInvalidCpfShouldReturnNull() {
-        when(clientRepository.findByCpf("invalid")).thenReturn(Optional.empty());
+    void findByCpfWithUnknownCpfShouldReturnNull() {
+        givenNaturalIdLoad("98765432100", null);
 
+        assertNull(clientRepositoryAdapter.findByCpf("98765432100"));
+        verify(clientMapper, never()).entityToDomain(any());
+    }
+
+    @Test
+    void findByCpfWithInvalidCpfShouldReturnNullWithoutLoading() {
         Client result = clientRepositoryAdapter.findByCpf("invalid");
 
         assertNull(result);
-        verify(clientRepository).findByCpf("invalid");
+        verify(entityManager, never()).unwrap(Session.class);
         verify(clientMapper, never()).entityToDomain(any());
     }
 
     @Test
-    void deleteWithExistingCpfShouldDeleteClient() {
-        when(clientRepository.findByCpf("12345678901")).thenReturn(Optional.of(validClientEntity));
+    void writesShouldEvictAgainAfterCommitSoARacingLoadCannotKeepTheOldRow() {
+        when(clientJdbcRepository.update(validClient, null)).thenReturn(ClientUpsertResult.stored(validClient, false));
+        when(clientJdbcRepository.upsert(validClient)).thenReturn(ClientUpsertResult.stored(validClient, false));
+        givenSecondLevelCache();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            clientRepositoryAdapter.update(validClient, null);
+            clientRepositoryAdapter.upsert(validClient);
+            // A natural-id load racing the writes puts the old row back before they commit
+            verify(secondLevelCache, times(2)).evict(ClientEntity.class, UUID_ID);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(secondLevelCache, times(4)).evict(ClientEntity.class, UUID_ID);
+    }
+
+    @Test
+    void singleRowWritesShouldRunInATransactionSoTheAfterCommitEvictionIsRegistered() throws NoSuchMethodException {
+        assertTrue(ClientRepositoryAdapterImpl.class.getMethod("update", Client.class, ClientVersion.class)
+                .isAnnotationPresent(Transactional.class));
+        assertTrue(ClientRepositoryAdapterImpl.class.getMethod("upsert", Client.class)
+                .isAnnotationPresent(Transactional.class));
+    }
+
+    @Test
+    void lookupsThatFillTheCachesShouldNotBeRoutedToTheReplica() throws NoSuchMethodException {
+        assertFalse(ClientRepositoryAdapterImpl.class.getMethod("findByCpf", String.class)
+                .getAnnotation(Transactional.class).readOnly());
+        assertFalse(ClientRepositoryAdapterImpl.class.getMethod("findById", String.class)
+                .getAnnotation(Transactional.class).readOnly());
+    }
+
+    @Test
+    void deleteWithExistingCpfShouldDeleteWithoutLoadingAndEvictBothCacheRegions() {
+        when(clientJdbcRepository.deleteAll(List.of("12345678901"))).thenReturn(List.of(ClientDeleteResult.deleted("12345678901", ID)));
+        givenSecondLevelCache();
+        NaturalIdDataAccess naturalIdCache = givenNaturalIdCache("12345678901");
 
-        clientRepositoryAdapter.delete("12345678901");
+        assertTrue(clientRepositoryAdapter.delete("123.456.789-01"));
 
-        verify(clientRepository).findByCpf("12345678901");
-        verify(clientRepository).delete(validClientEntity);
+        verify(secondLevelCache).evict(ClientEntity.class, UUID_ID);
+        verify(naturalIdCache).evict("key-12345678901");
+        verifyNoInteractions(clientRepository);
+        verify(entityManager, never()).unwrap(Session.class);
     }
 
     @Test
-    void deleteWithNonExistingCpfShouldNotDeleteAnything() {
-        when(clientRepository.findByCpf("invalid")).thenReturn(Optional.empty());
+    void deleteWithNonExistingCpfShouldNotTouchSecondLevelCache() {
+        when(clientJdbcRepository.deleteAll(List.of("98765432100"))).thenReturn(List.of());
 
-        clientRepositoryAdapter.delete("invalid");
+        assertFalse(clientRepositoryAdapter.delete("98765432100"));
 
-        verify(clientRepository).findByCpf("invalid");
-        verify(clientRepository, never()).delete(any());
+        verify(entityManager, never()).getEntityManagerFactory();
+        verify(entityManager, never()).unwrap(any());
+    }
+
+    @Test
+    void deleteWithInvalidCpfShouldNotIssueStatement() {
+        assertFalse(clientRepositoryAdapter.delete("invalid"));
+
+        verifyNoInteractions(clientJdbcRepository, entityManager);
+    }
+
+    @Test
+    void deleteAllShouldReturnDeletedRowsAndEvictThem() {
+        List<ClientDeleteResult> deleted = List.of(ClientDeleteResult.deleted("12345678901", ID));
+        when(clientJdbcRepository.deleteAll(List.of("12345678901", "98765432100"))).thenReturn(deleted);
+        givenSecondLevelCache();
+        NaturalIdDataAccess naturalIdCache = givenNaturalIdCache("12345678901");
+
+        assertEquals(deleted, clientRepositoryAdapter.deleteAll(List.of("12345678901", "98765432100")));
+        verify(secondLevelCache).evict(ClientEntity.class, UUID_ID);
+        verify(naturalIdCache).evict("key-12345678901");
+        verifyNoMoreInteractions(naturalIdCache);
     }
 
     @Test
     void findByIdWithValidIdShouldReturnClient() {
-        when(clientRepository.findById("1")).thenReturn(Optional.of(validClientEntity));
+        when(clientRepository.findById(UUID_ID)).thenReturn(Optional.of(validClientEntity));
         when(clientMapper.entityToDomain(validClientEntity)).thenReturn(validClient);
 
-        Client result = clientRepositoryAdapter.findById("1");
+        Client result = clientRepositoryAdapter.findById(ID);
 
         assertNotNull(result);
-        assertEquals("1", result.getId());
-        verify(clientRepository).findById("1");
+        assertEquals(ID, result.getId());
+        verify(clientRepository).findById(UUID_ID);
         verify(clientMapper).entityToDomain(validClientEntity);
     }
 
     @Test
     void findByIdWithInvalidIdShouldReturnNull() {
-        when(clientRepository.findById("invalid")).thenReturn(Optional.empty());
-
         Client result = clientRepositoryAdapter.findById("invalid");
 
         assertNull(result);
-        verify(clientRepository).findById("invalid");
+        verify(clientRepository, never()).findById(any());
         verify(clientMapper, never()).entityToDomain(any());
     }
+
+    @SuppressWarnings("unchecked")
+    private void givenNaturalIdLoad(String cpf, ClientEntity entity) {
+        Session session = mock(Session.class);
+        naturalIdLoadAccess = mock(SimpleNaturalIdLoadAccess.class);
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        when(session.bySimpleNaturalId(ClientEntity.class)).thenReturn(naturalIdLoadAccess);
+        when(naturalIdLoadAccess.load(cpf.replaceAll("\\D", ""))).thenReturn(entity);
+    }
+
+    private NaturalIdDataAccess givenNaturalIdCache(String cpf) {
+        SessionImplementor session = mock(SessionImplementor.class);
+        SessionFactoryImplementor sessionFactory = mock(SessionFactoryImplementor.class);
+        MappingMetamodelImplementor metamodel = mock(MappingMetamodelImplementor.class);
+        EntityPersister persister = mock(EntityPersister.class);
+        NaturalIdDataAccess naturalIdCache = mock(NaturalIdDataAccess.class);
+        when(entityManager.unwrap(SessionImplementor.class)).thenReturn(session);
+        when(session.getFactory()).thenReturn(sessionFactory);
+        when(sessionFactory.getMappingMetamodel()).thenReturn(metamodel);
+        when(metamodel.getEntityDescriptor(ClientEntity.class)).thenReturn(persister);
+        when(persister.getNaturalIdCacheAccessStrategy()).thenReturn(naturalIdCache);
+        when(naturalIdCache.generateCacheKey(cpf, persister, session)).thenReturn("key-" + cpf);
+        return naturalIdCache;
+    }
+
+    private void givenSecondLevelCache() {
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        secondLevelCache = mock(Cache.class);
+        when(entityManager.getEntityManagerFactory()).thenReturn(entityManagerFactory);
+        when(entityManagerFactory.getCache()).thenReturn(secondLevelCache);
+    }
 }
@@ -0,0 +1,199 @@
+package br.com.five.seven.food.infra.persistence.routing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.clear();
+    }
+
+    @Test
+    void readsShouldGoToTheReplica() throws SQLException {
+        when(replica.getConnection()).thenReturn(replicaConnection);
+
+        assertSame(replicaConnection, replicaDataSource(Clock.systemUTC()).getConnection());
+        verifyNoInteractions(primary);
+        assertEquals(1.0, meterRegistry.get("food.datasource.reads").tag("target", "replica").counter().count());
+    }
+
+    @Test
+    void readsAfterACommittedWriteShouldStayOnThePrimary() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        Connection connection = new WriteTrackingDataSource(primary).getConnection();
+        connection.prepareStatement("UPDATE tb_client SET name = ? WHERE cpf = ?");
+        assertFalse(ReadYourWrites.hasWritten());
+        connection.commit();
+
+        assertTrue(ReadYourWrites.hasWritten());
+        assertSame(primaryConnection, replicaDataSource(Clock.systemUTC()).getConnection());
+        verifyNoInteractions(replica);
+    }
+
+    @Test
+    void readWriteConnectionsThatOnlyReadOrRollBackShouldNotMarkTheThread() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        WriteTrackingDataSource dataSource = new WriteTrackingDataSource(primary);
+
+        Connection reading = dataSource.getConnection();
+        reading.prepareStatement(" select c.id from tb_client c");
+        reading.commit();
+        reading.close();
+        Connection rolledBack = dataSource.getConnection();
+        rolledBack.prepareStatement("DELETE FROM tb_client WHERE cpf = ANY(?)");
+        rolledBack.rollback();
+        rolledBack.commit();
+
+        assertFalse(ReadYourWrites.hasWritten());
+    }
+
+    @Test
+    void autoCommitWriteShouldMarkTheThreadWhenTheConnectionCloses() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(primaryConnection.getAutoCommit()).thenReturn(true);
+
+        Connection connection = new WriteTrackingDataSource(primary).getConnection();
+        connection.prepareStatement("INSERT INTO tb_client (id) VALUES (?)");
+        connection.close();
+
+        assertTrue(ReadYourWrites.hasWritten());
+        verify(primaryConnection).close();
+    }
+
+    @Test
+    void unavailableReplicaShouldFallBackAndBeSkippedWithinTheWindow() throws SQLException {
+        when(replica.getConnection()).thenThrow(new SQLException("Connection refused"));
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        ReplicaDataSource dataSource = replicaDataSource(Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC));
+
+        assertSame(primaryConnection, dataSource.getConnection());
+        assertSame(primaryConnection, dataSource.getConnection());
+
+        verify(replica, times(1)).getConnection();
+        assertEquals(1.0, meterRegistry.get("food.datasource.replica.fallbacks").counter().count());
+        assertEquals(2.0, meterRegistry.get("food.datasource.reads").tag("target", "primary").counter().count());
+    }
+
+    @Test
+    void replicaShouldBeRetriedAfterTheWindow() throws SQLException {
+        MovableClock clock = new MovableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        ReplicaDataSource dataSource = replicaDataSource(clock);
+        when(replica.getConnection()).thenThrow(new SQLException("Connection refused")).thenReturn(replicaConnection);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        assertSame(primaryConnection, dataSource.getConnection());
+        clock.now = clock.now.plusSeconds(1);
+        assertSame(primaryConnection, dataSource.getConnection());
+        clock.now = clock.now.plusSeconds(5);
+        assertSame(replicaConnection, dataSource.getConnection());
+        verify(replica, times(2)).getConnection();
+    }
+
+    @Test
+    void filterShouldClearTheWriteMarkAfterTheRequest() throws Exception {
+        FilterChain chain = (request, response) -> ReadYourWrites.markWritten();
+
+        new ReadYourWritesFilter().doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), chain);
+
+        assertFalse(ReadYourWrites.hasWritten());
+    }
+
+    @Test
+    void postProcessorShouldLeaveTheDataSourceAloneWhenDisabled() {
+        ReplicaRoutingDataSourcePostProcessor processor = postProcessor(new MockEnvironment());
+
+        assertSame(primary, processor.postProcessAfterInitialization(primary, "dataSource"));
+    }
+
+    @Test
+    void postProcessorShouldRouteReadOnlyConnectionsWhenEnabled() throws Exception {
+        ReplicaRoutingDataSourcePostProcessor processor = postProcessor(new MockEnvironment()
+                .withProperty("food.datasource.replica.enabled", "true")
+                .withProperty("food.datasource.replica.url", "jdbc:postgresql://localhost:5433/food"));
+
+        Object routed = processor.postProcessAfterInitialization(primary, "dataSource");
+
+        assertInstanceOf(LazyConnectionDataSourceProxy.class, routed);
+        processor.destroy();
+    }
+
+    private ReplicaDataSource replicaDataSource(Clock clock) {
+        return new ReplicaDataSource(replica, primary, Duration.ofSeconds(5), meterRegistry, clock);
+    }
+
+    private ReplicaRoutingDataSourcePostProcessor postProcessor(MockEnvironment environment) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", meterRegistry);
+        return new ReplicaRoutingDataSourcePostProcessor(environment, beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    private static final class MovableClock extends Clock {
+
+        private Instant now;
+
+        private MovableClock(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package br.com.five.seven.food.infra.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingAuthenticationProviderTest {
+
+    @Mock
+    private AuthenticationProvider delegate;
+
+    private CachingAuthenticationProvider provider;
+
+    private Authentication authenticated;
+
+    @BeforeEach
+    void setUp() {
+        provider = new CachingAuthenticationProvider(delegate, new AuthCacheProperties(10, Duration.ofMinutes(5)));
+        authenticated = UsernamePasswordAuthenticationToken.authenticated("admin", null, AuthorityUtils.createAuthorityList("ROLE_ADMIN"));
+    }
+
+    @Test
+    void repeatedLoginWithSamePasswordShouldCallDelegateOnce() {
+        when(delegate.authenticate(any())).thenReturn(authenticated);
+
+        provider.authenticate(login("admin"));
+        Authentication second = provider.authenticate(login("admin"));
+
+        assertTrue(second.isAuthenticated());
+        assertEquals("admin", second.getName());
+        assertEquals(authenticated.getAuthorities(), second.getAuthorities());
+        verify(delegate, times(1)).authenticate(any());
+    }
+
+    @Test
+    void cachedLoginShouldBuildANewTokenWithTheCallersDetails() {
+        when(delegate.authenticate(any())).thenReturn(authenticated);
+        UsernamePasswordAuthenticationToken firstLogin = login("admin");
+        firstLogin.setDetails("10.0.0.1");
+        provider.authenticate(firstLogin);
+
+        UsernamePasswordAuthenticationToken secondLogin = login("admin");
+        secondLogin.setDetails("10.0.0.2");
+        Authentication second = provider.authenticate(secondLogin);
+        Authentication third = provider.authenticate(login("admin"));
+
+        assertEquals("10.0.0.2", second.getDetails());
+        assertNull(third.getDetails());
+        assertNotSame(second, third);
+        assertNotSame(authenticated, second);
+    }
+
+    @Test
+    void stoppingShouldForgetCachedLogins() {
+        when(delegate.authenticate(any())).thenReturn(authenticated);
+        provider.authenticate(login("admin"));
+
+        provider.stop();
+        provider.start();
+        provider.authenticate(login("admin"));
+
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    @Test
+    void differentPasswordShouldAlwaysGoToDelegate() {
+        when(delegate.authenticate(any())).thenReturn(authenticated).thenThrow(new BadCredentialsException("Bad credentials"));
+
+        provider.authenticate(login("admin"));
+
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(login("wrong")));
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    @Test
+    void failedLoginShouldNotBeCached() {
+        when(delegate.authenticate(any())).thenThrow(new BadCredentialsException("Bad credentials"));
+
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(login("wrong")));
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(login("wrong")));
+
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    private UsernamePasswordAuthenticationToken login(String password) {
+        return UsernamePasswordAuthenticationToken.unauthenticated("admin", password);
+    }
+}
@@ -0,0 +1,157 @@
+package br.com.five.seven.food.infra.stats;
+
+import br.com.five.seven.food.domain.model.Client;
+import br.com.five.seven.food.domain.model.ClientDeleteResult;
+import br.com.five.seven.food.domain.model.ClientStats;
+import br.com.five.seven.food.domain.model.ClientUpsertResult;
+import br.com.five.seven.food.domain.repository.IClientRepository;
+import br.com.five.seven.food.infra.persistence.routing.ReadYourWrites;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClientStatsRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 5, 10, 12, 30, 15);
+    private static final LocalDate TODAY = NOW.toLocalDate();
+
+    @Mock
+    private IClientRepository delegate;
+
+    private ClientStatsRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        repository = new ClientStatsRepository(delegate, new ClientStatsProperties(null), clock);
+    }
+
+    @Test
+    void writesShouldMoveReconciledCountersWithoutQueryingStats() {
+        when(delegate.clientStats()).thenReturn(new ClientStats(10,
+                new TreeMap<>(Map.of(TODAY.minusDays(1), 4L, TODAY, 2L)),
+                new TreeMap<>(Map.of(NOW.withSecond(0).minusMinutes(10), 3L)), NOW));
+        repository.reconcile();
+
+        when(delegate.upsertAll(any())).thenReturn(List.of(
+                ClientUpsertResult.stored(client(NOW, null), true),
+                ClientUpsertResult.stored(client(TODAY.minusDays(3).atStartOfDay(), NOW), false)));
+        when(delegate.update(any(), any())).thenReturn(ClientUpsertResult.stored(client(TODAY.minusDays(3).atStartOfDay(), NOW), false));
+        when(delegate.deleteAll(List.of("12345678909"))).thenReturn(List.of(
+                ClientDeleteResult.deleted("12345678909", "1", TODAY.minusDays(1).atTime(9, 0), null)));
+        when(delegate.deleteAll(List.of("98765432100", "11144477735"))).thenReturn(List.of(
+                ClientDeleteResult.deleted("98765432100", "2", TODAY.minusDays(90).atStartOfDay(), NOW.minusMinutes(10))));
+
+        repository.upsertAll(List.of());
+        repository.update(client(null, null), null);
+        assertTrue(repository.delete("12345678909"));
+        repository.deleteAll(List.of("98765432100", "11144477735"));
+
+        ClientStats stats = repository.clientStats();
+        assertEquals(9, stats.getTotal());
+        assertEquals(Map.of(TODAY.minusDays(1), 3L, TODAY, 3L), stats.getCreatedPerDay());
+        assertEquals(4, stats.getUpdatedLastHour());
+        assertEquals(NOW, stats.getReconciledAt());
+        verify(delegate, times(1)).clientStats();
+        verify(delegate, never()).delete(any());
+    }
+
+    @Test
+    void updatesShouldMoveTheRowOutOfTheMinuteOfItsPreviousUpdate() {
+        LocalDateTime tenMinutesAgo = NOW.withSecond(0).minusMinutes(10);
+        when(delegate.clientStats()).thenReturn(new ClientStats(5, new TreeMap<>(),
+                new TreeMap<>(Map.of(tenMinutesAgo, 3L)), NOW));
+        repository.reconcile();
+        when(delegate.update(any(), any())).thenReturn(
+                ClientUpsertResult.stored(client(TODAY.minusDays(3).atStartOfDay(), NOW), false, tenMinutesAgo.plusSeconds(20)));
+        when(delegate.upsertAll(any())).thenReturn(List.of(
+                ClientUpsertResult.stored(client(TODAY.minusDays(3).atStartOfDay(), NOW), false, NOW.minusSeconds(5)),
+                ClientUpsertResult.stored(client(TODAY.minusDays(3).atStartOfDay(), NOW), false, NOW.minusHours(2))));
+
+        repository.update(client(null, null), null);
+        repository.upsertAll(List.of());
+
+        ClientStats stats = repository.clientStats();
+        assertEquals(Map.of(tenMinutesAgo, 2L, NOW.withSecond(0), 2L), stats.getUpdatedPerMinute());
+        assertEquals(4, stats.getUpdatedLastHour());
+    }
+
+    @Test
+    void aRowReportedTwiceShouldOnlyBeTakenOutOnce() {
+        when(delegate.clientStats()).thenReturn(new ClientStats(3, new TreeMap<>(Map.of(TODAY, 3L)), new TreeMap<>(), NOW));
+        repository.reconcile();
+        ClientDeleteResult deleted = ClientDeleteResult.deleted("12345678909", "1", NOW, null);
+        when(delegate.deleteAll(List.of("12345678909", "12345678909"))).thenReturn(List.of(deleted, deleted));
+
+        repository.deleteAll(List.of("12345678909", "12345678909"));
+
+        ClientStats stats = repository.clientStats();
+        assertEquals(2, stats.getTotal());
+        assertEquals(Map.of(TODAY, 2L), stats.getCreatedPerDay());
+    }
+
+    @Test
+    void deletingAnUnknownCpfShouldNotMoveTheCounters() {
+        when(delegate.clientStats()).thenReturn(new ClientStats(3, new TreeMap<>(Map.of(TODAY, 3L)), new TreeMap<>(), NOW));
+        repository.reconcile();
+        when(delegate.deleteAll(List.of("12345678909"))).thenReturn(List.of());
+
+        assertFalse(repository.delete("12345678909"));
+
+        ClientStats stats = repository.clientStats();
+        assertEquals(3, stats.getTotal());
+        assertEquals(Map.of(TODAY, 3L), stats.getCreatedPerDay());
+    }
+
+    @Test
+    void bucketsOutsideTheWindowsShouldNotBeCounted() {
+        when(delegate.clientStats()).thenReturn(new ClientStats(7,
+                new TreeMap<>(Map.of(TODAY.minusDays(ClientStats.DAYS), 5L, TODAY, 1L)),
+                new TreeMap<>(Map.of(NOW.withSecond(0).minusMinutes(60), 4L, NOW.withSecond(0).minusMinutes(59), 1L)), NOW));
+        repository.reconcile();
+
+        ClientStats stats = repository.clientStats();
+
+        assertEquals(Map.of(TODAY, 1L), stats.getCreatedPerDay());
+        assertEquals(1, stats.getUpdatedLastHour());
+    }
+
+    @Test
+    void failedReconciliationShouldKeepIncrementalCounts() {
+        when(delegate.upsert(any())).thenReturn(ClientUpsertResult.stored(client(NOW, null), true));
+        when(delegate.clientStats()).thenThrow(new IllegalStateException("database down"));
+
+        repository.upsert(client(null, null));
+        ReadYourWrites.markWritten();
+        repository.reconcile();
+
+        assertFalse(ReadYourWrites.hasWritten());
+
+        ClientStats stats = repository.clientStats();
+        assertEquals(1, stats.getTotal());
+        assertEquals(Map.of(TODAY, 1L), stats.getCreatedPerDay());
+        assertNull(stats.getReconciledAt());
+    }
+
+    private static Client client(LocalDateTime createdAt, LocalDateTime updatedAt) {
+        Client client = new Client("1", "12345678909", "John Doe", "john@example.com", null);
+        client.setCreatedAt(createdAt);
+        client.setUpdatedAt(updatedAt);
+        return client;
+    }
+}
@@ -2,8 +2,12 @@ package br.com.five.seven.food.rest;
 
 import br.com.five.seven.food.application.ports.in.ClientUseCase;
 import br.com.five.seven.food.domain.model.Client;
+import br.com.five.seven.food.domain.model.ClientPage;
+import br.com.five.seven.food.infra.exceptions.InvalidCursorException;
+import br.com.five.seven.food.infra.handler.HandlerAdvice;
 import br.com.five.seven.food.rest.mapper.ClientMapper;
 import br.com.five.seven.food.rest.request.ClientRequest;
+import br.com.five.seven.food.rest.response.ClientPageResponse;
 import br.com.five.seven.food.rest.response.ClientResponse;
 import jakarta.xml.bind.ValidationException;
 import org.junit.jupiter.api.DisplayName;
@@ -12,7 +16,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.Collections;
 import java.util.List;
@@ -22,6 +32,11 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 import static org.springframework.http.HttpStatus.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("Client Controller BDD Tests")
@@ -109,7 +124,7 @@ class ClientControllerTest {
         when(clientMapper.domainToResponse(client)).thenReturn(response);
 
         // When: Finding the client by CPF
-        ResponseEntity<ClientResponse> result = clientController.findByCpf(cpf);
+        ResponseEntity<ClientResponse> result = clientController.findByCpf(cpf, getRequest());
 
         // Then: Return OK status with the client
         assertEquals(OK, result.getStatusCode());
@@ -127,46 +142,111 @@ class ClientControllerTest {
         when(clientService.findByCpf(cpf)).thenThrow(new RuntimeException("Client not found"));
 
         // When & Then: Finding the client throws exception
-        assertThrows(RuntimeException.class, () -> clientController.findByCpf(cpf));
+        assertThrows(RuntimeException.class, () -> clientController.findByCpf(cpf, getRequest()));
         verify(clientService).findByCpf(cpf);
     }
 
     @Test
-    @DisplayName("Scenario: Successfully retrieve all clients")
-    void givenClientsExist_whenListAllClients_thenReturnClientList() {
+    @DisplayName("Scenario: Successfully retrieve a page of clients")
+    void givenClientsExist_whenListAllClients_thenReturnClientPage() throws ValidationException {
         // Given: Existing clients
         Client client = createClient("12345678901", "John Doe", "john@example.com", "123456789");
         ClientResponse response = createClientResponse("12345678901", "John Doe", "john@example.com", "123456789");
-        List<Client> clients = List.of(client);
+        ClientPage page = new ClientPage(List.of(client), "cursor");
+        ClientPageResponse pageResponse = new ClientPageResponse(List.of(response), "cursor");
 
-        when(clientService.findAll()).thenReturn(clients);
-        when(clientMapper.domainToResponse(client)).thenReturn(response);
+        when(clientService.findPage(null, 50)).thenReturn(page);
+        when(clientMapper.pageToResponse(page)).thenReturn(pageResponse);
 
-        // When: Listing all clients
-        ResponseEntity<List<ClientResponse>> result = clientController.listAllClients();
+        // When: Listing the first page of clients
+        ResponseEntity<ClientPageResponse> result = clientController.listAllClients(null, 50, getRequest());
 
-        // Then: Return OK status with the client list
+        // Then: Return OK status with the page and the cursor of the next one
         assertEquals(OK, result.getStatusCode());
         assertNotNull(result.getBody());
-        assertEquals(1, result.getBody().size());
-        assertEquals(response, result.getBody().get(0));
-        verify(clientService).findAll();
+        assertEquals(1, result.getBody().getItems().size());
+        assertEquals(response, result.getBody().getItems().get(0));
+        assertEquals("cursor", result.getBody().getNextCursor());
+        verify(clientService).findPage(null, 50);
     }
 
     @Test
-    @DisplayName("Scenario: Retrieve empty client list")
-    void givenNoClientsExist_whenListAllClients_thenReturnEmptyList() {
+    @DisplayName("Scenario: Retrieve empty client page")
+    void givenNoClientsExist_whenListAllClients_thenReturnEmptyPage() throws ValidationException {
         // Given: No clients exist
-        when(clientService.findAll()).thenReturn(Collections.emptyList());
+        ClientPage page = new ClientPage(Collections.emptyList(), null);
+        when(clientService.findPage(null, 50)).thenReturn(page);
+        when(clientMapper.pageToResponse(page)).thenReturn(new ClientPageResponse(Collections.emptyList(), null));
 
-        // When: Listing all clients
-        ResponseEntity<List<ClientResponse>> result = clientController.listAllClients();
+        // When: Listing the first page of clients
+        ResponseEntity<ClientPageResponse> result = clientController.listAllClients(null, 50, getRequest());
 
-        // Then: Return OK status with empty list
+        // Then: Return OK status with an empty page and no next cursor
         assertEquals(OK, result.getStatusCode());
         assertNotNull(result.getBody());
-        assertTrue(result.getBody().isEmpty());
-        verify(clientService).findAll();
+        assertTrue(result.getBody().getItems().isEmpty());
+        assertNull(result.getBody().getNextCursor());
+        verify(clientService).findPage(null, 50);
+    }
+
+    @Test
+    @DisplayName("Scenario: Reject a cursor that was not returned by a previous page")
+    void givenGarbageCursor_whenListAllClients_thenReturnBadRequest() throws Exception {
+        // Given: A cursor that is not valid Base64
+        when(clientService.findPage("%%%garbage", 50)).thenThrow(new InvalidCursorException("Invalid cursor"));
+
+        // When & Then: Listing clients answers 400 instead of 500
+        mockMvc().perform(get("/v1/clients").param("cursor", "%%%garbage"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("Invalid cursor"))
+                .andExpect(jsonPath("$.error").value("InvalidCursorException"));
+    }
+
+    @Test
+    @DisplayName("Scenario: Reject a batch above the maximum size")
+    void givenOversizedBatch_whenUpsertClients_thenReturnBadRequest() throws Exception {
+        // Given: The service refuses the batch size
+        when(clientService.upsertAll(any())).thenThrow(new ValidationException("Batch cannot have more than 10000 clients"));
+
+        // When & Then: The batch endpoint answers 400 instead of 500
+        mockMvc().perform(post("/v1/clients/batch").contentType(MediaType.APPLICATION_JSON).content("[{\"cpf\":\"12345678909\"}]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("Batch cannot have more than 10000 clients"));
+    }
+
+    @Test
+    @DisplayName("Scenario: Reject a bulk delete above the maximum size")
+    void givenOversizedDeleteBatch_whenDeleteClients_thenReturnBadRequest() throws Exception {
+        // Given: The service refuses the batch size
+        when(clientService.deleteAll(any())).thenThrow(new ValidationException("Batch cannot have more than 10000 clients"));
+
+        // When & Then: The bulk delete answers 400 instead of 500
+        mockMvc().perform(delete("/v1/clients").contentType(MediaType.APPLICATION_JSON).content("[\"12345678909\"]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("Batch cannot have more than 10000 clients"));
+    }
+
+    @Test
+    @DisplayName("Scenario: Reject a search query the service cannot run")
+    void givenShortSearchQuery_whenSearchClients_thenReturnBadRequest() throws Exception {
+        // Given: A query without three consecutive letters or digits
+        when(clientService.search("a", null, 50)).thenThrow(new ValidationException("Search query must have up to 100 characters"));
+
+        // When & Then: Searching answers 400 instead of 500
+        mockMvc().perform(get("/v1/clients/search").param("q", "a"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.title").value("Erro de Validação"))
+                .andExpect(jsonPath("$.error").value("ValidationException"));
+    }
+
+    @Test
+    @DisplayName("Scenario: Reject a search without a query")
+    void givenNoSearchQuery_whenSearchClients_thenReturnBadRequest() throws Exception {
+        // When & Then: Searching without q answers 400 and never reaches the service
+        mockMvc().perform(get("/v1/clients/search"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("MissingServletRequestParameterException"));
+        verifyNoInteractions(clientService);
     }
 
     // UPDATE CLIENT TESTS
@@ -180,17 +260,17 @@ class ClientControllerTest {
         ClientResponse response = createClientResponse(cpf, "Jane Doe", "jane@example.com", "987654321");
 
         when(clientMapper.requestToDomain(request)).thenReturn(client);
-        when(clientService.update(cpf, client)).thenReturn(client);
+        when(clientService.update(cpf, client, null)).thenReturn(client);
         when(clientMapper.domainToResponse(client)).thenReturn(response);
 
         // When: Updating the client
-        ResponseEntity<ClientResponse> result = clientController.update(cpf, request);
+        ResponseEntity<ClientResponse> result = clientController.update(cpf, request, null);
 
         // Then: Return OK status with the updated client
         assertEquals(OK, result.getStatusCode());
         assertNotNull(result.getBody());
         assertEquals(response, result.getBody());
-        verify(clientService).update(cpf, client);
+        verify(clientService).update(cpf, client, null);
     }
 
     @Test
@@ -202,11 +282,11 @@ class ClientControllerTest {
         Client client = createClient(cpf, "Jane Doe", "jane@example.com", "987654321");
 
         when(clientMapper.requestToDomain(request)).thenReturn(client);
-        when(clientService.update(cpf, client)).thenThrow(new RuntimeException("Client not found"));
+        when(clientService.update(cpf, client, null)).thenThrow(new RuntimeException("Client not found"));
 
         // When & Then: Updating the client throws exception
-        assertThrows(RuntimeException.class, () -> clientController.update(cpf, request));
-        verify(clientService).update(cpf, client);
+        assertThrows(RuntimeException.class, () -> clientController.update(cpf, request, null));
+        verify(clientService).update(cpf, client, null);
     }
 
     // DELETE CLIENT TESTS
@@ -240,6 +320,16 @@ class ClientControllerTest {
     }
 
     // Helper methods
+    private MockMvc mockMvc() {
+        return MockMvcBuilders.standaloneSetup(clientController)
+                .setControllerAdvice(new HandlerAdvice())
+                .build();
+    }
+
+    private ServletWebRequest getRequest() {
+        return new ServletWebRequest(new MockHttpServletRequest("GET", "/v1/clients"), new MockHttpServletResponse());
+    }
+
     private Client createClient(String cpf, String name, String email, String phone) {
         Client client = new Client();
         client.setCpf(cpf);
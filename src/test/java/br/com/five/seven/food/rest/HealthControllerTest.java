@@ -0,0 +1,57 @@
+package br.com.five.seven.food.rest;
+
+import br.com.five.seven.food.infra.health.HealthProbe;
+import br.com.five.seven.food.infra.health.HealthSnapshot;
+import br.com.five.seven.food.infra.health.HealthSnapshot.ProbeStatus;
+import br.com.five.seven.food.rest.response.HealthResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+
+@ExtendWith(MockitoExtension.class)
+class HealthControllerTest {
+
+    @Mock
+    private HealthProbe healthProbe;
+
+    @InjectMocks
+    private HealthController healthController;
+
+    private final HealthSnapshot databaseDown = new HealthSnapshot(ProbeStatus.DOWN, ProbeStatus.UP, 0, 10, 0,
+            Instant.parse("2026-01-01T00:00:00Z"), "Connection refused");
+
+    @Test
+    void readinessShouldAnswer503WhenTheCachedCheckFailed() {
+        when(healthProbe.snapshot()).thenReturn(databaseDown);
+        when(healthProbe.isReady(databaseDown)).thenReturn(false);
+
+        ResponseEntity<HealthResponse> response = healthController.readiness();
+
+        assertEquals(SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("DOWN", response.getBody().getStatus());
+        assertEquals("DOWN", response.getBody().getDatabase());
+        assertEquals("Connection refused", response.getBody().getDetail());
+    }
+
+    @Test
+    void livenessShouldStayUpWhileChecksRun() {
+        when(healthProbe.snapshot()).thenReturn(databaseDown);
+        when(healthProbe.isLive(databaseDown)).thenReturn(true);
+
+        ResponseEntity<HealthResponse> response = healthController.liveness();
+
+        assertEquals(OK, response.getStatusCode());
+        assertEquals("UP", response.getBody().getStatus());
+        assertEquals("2026-01-01T00:00:00Z", response.getBody().getCheckedAt());
+    }
+}